@@ -8,8 +8,12 @@ export function createAnonymousComplaint(data) {
   return http.post('/complaints/anonymous', data)
 }
 
-export function listMyComplaints() {
-  return http.get('/complaints')
+export function listMyComplaints(params) {
+  return http.get('/complaints', { params })
+}
+
+export function getMyComplaintSummary() {
+  return http.get('/complaints/summary')
 }
 
 export function getComplaint(id) {
@@ -32,6 +36,18 @@ export function adminListComplaints(params) {
   return http.get('/admin/complaints', { params })
 }
 
+export function adminBulkUpdateComplaints(data) {
+  return http.post('/admin/complaints/bulk', data)
+}
+
+export function adminSearchComplaints(params) {
+  return http.get('/admin/complaints/search', { params })
+}
+
+export function adminGetAnalytics(params) {
+  return http.get('/admin/analytics', { params })
+}
+
 export function adminGetComplaint(id) {
   return http.get(`/admin/complaints/${id}`)
 }
@@ -49,6 +65,11 @@ export function officerListComplaints() {
   return http.get('/officer/complaints')
 }
 
+// Delta sync: pass the previous nextCursor as `since` ('' for the first call)
+export function officerListComplaintChanges(params) {
+  return http.get('/officer/complaints', { params })
+}
+
 export function officerGetComplaint(id) {
   return http.get(`/officer/complaints/${id}`)
 }
@@ -56,3 +77,11 @@ export function officerGetComplaint(id) {
 export function officerUpdateComplaint(id, data) {
   return http.put(`/officer/complaints/${id}`, data)
 }
+
+export function adminMergeDuplicate(id) {
+  return http.post(`/admin/complaints/${id}/merge`)
+}
+
+export function adminDismissDuplicate(id) {
+  return http.post(`/admin/complaints/${id}/dismiss-duplicate`)
+}
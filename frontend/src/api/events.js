@@ -0,0 +1,51 @@
+import http from './http'
+
+// EventSource can't send the Authorization header, so the stream is read with fetch.
+// Calls onEvent with each complaint event and reconnects until the returned function is called.
+export function subscribeComplaintEvents(onEvent) {
+  let controller = null
+  let stopped = false
+
+  const connect = async () => {
+    controller = new AbortController()
+    try {
+      const token = localStorage.getItem('token')
+      const response = await fetch(`${http.defaults.baseURL}/events/complaints`, {
+        headers: token ? { Authorization: `Bearer ${token}` } : {},
+        signal: controller.signal
+      })
+      if (!response.ok) {
+        throw new Error(`Event stream failed: ${response.status}`)
+      }
+      const reader = response.body.pipeThrough(new TextDecoderStream()).getReader()
+      let buffer = ''
+      for (;;) {
+        const { value, done } = await reader.read()
+        if (done) break
+        buffer += value
+        let end
+        while ((end = buffer.indexOf('\n\n')) >= 0) {
+          const data = buffer.slice(0, end).split('\n')
+            .filter(line => line.startsWith('data:'))
+            .map(line => line.slice(5))
+            .join('\n')
+          buffer = buffer.slice(end + 2)
+          if (data) {
+            onEvent(JSON.parse(data))
+          }
+        }
+      }
+    } catch (error) {
+      if (stopped) return
+    }
+    if (!stopped) {
+      setTimeout(connect, 5000)
+    }
+  }
+
+  connect()
+  return () => {
+    stopped = true
+    if (controller) controller.abort()
+  }
+}
@@ -13,5 +13,35 @@ http.interceptors.request.use((config) => {
   return config
 })
 
+// On 401, trade the refresh token for a new access token once and replay the request
+let refreshing = null
+
+http.interceptors.response.use(
+  (response) => response,
+  async (error) => {
+    const original = error.config
+    const refreshToken = localStorage.getItem('refreshToken')
+    if (!error.response || error.response.status !== 401 || !refreshToken || original._retried) {
+      return Promise.reject(error)
+    }
+    original._retried = true
+    try {
+      if (!refreshing) {
+        refreshing = axios.post(`${http.defaults.baseURL}/auth/refresh`, { refreshToken })
+          .finally(() => { refreshing = null })
+      }
+      const { data } = await refreshing
+      localStorage.setItem('token', data.token)
+      localStorage.setItem('refreshToken', data.refreshToken)
+      axios.defaults.headers.common['Authorization'] = `Bearer ${data.token}`
+      original.headers.Authorization = `Bearer ${data.token}`
+      return http(original)
+    } catch (refreshError) {
+      localStorage.removeItem('refreshToken')
+      return Promise.reject(error)
+    }
+  }
+)
+
 export default http
 
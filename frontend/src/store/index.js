@@ -56,6 +56,9 @@ const store = createStore({
               role: response.data.role
             }
             localStorage.setItem('token', token)
+            if (response.data.refreshToken) {
+              localStorage.setItem('refreshToken', response.data.refreshToken)
+            }
             localStorage.setItem('user', JSON.stringify(userData))
             axios.defaults.headers.common['Authorization'] = `Bearer ${token}`
             commit('auth_success', { token, user: userData })
@@ -87,6 +90,7 @@ const store = createStore({
       return new Promise((resolve) => {
         commit('logout')
         localStorage.removeItem('token')
+        localStorage.removeItem('refreshToken')
         localStorage.removeItem('user')
         delete axios.defaults.headers.common['Authorization']
         resolve()
@@ -0,0 +1,46 @@
+package com.resolveit.grievancemanagement.benchmark;
+
+import com.resolveit.grievancemanagement.GrievanceManagementApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Boots the real application (no web server) against a private in-memory H2 database.
+ * Each JMH fork gets its own context and data.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "none");
+        properties.put("spring.flyway.locations", "classpath:db/migration/{vendor}");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.open-in-view", "false");
+        properties.put("spring.jpa.properties.hibernate.jdbc.batch_size", "50");
+        properties.put("spring.jpa.properties.hibernate.cache.use_second_level_cache", "true");
+        properties.put("spring.jpa.properties.hibernate.cache.region.factory_class", "jcache");
+        properties.put("spring.jpa.properties.hibernate.javax.cache.provider",
+                "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+        properties.put("spring.mail.host", "localhost");
+        properties.put("jwt.secret", JwtValidationBenchmark.SECRET);
+        properties.put("jwt.expiration", "3600000");
+        properties.put("google.oauth.client-id", "benchmark");
+        properties.put("resolveit.search.index-dir", "");
+        properties.put("logging.level.root", "WARN");
+
+        SpringApplication application = new SpringApplication(GrievanceManagementApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setDefaultProperties(properties);
+        return application.run();
+    }
+}
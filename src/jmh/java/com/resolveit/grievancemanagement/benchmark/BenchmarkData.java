@@ -0,0 +1,112 @@
+package com.resolveit.grievancemanagement.benchmark;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.ComplaintStatusHistory;
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.repository.ComplaintRepository;
+import com.resolveit.grievancemanagement.repository.ComplaintStatusHistoryRepository;
+import com.resolveit.grievancemanagement.repository.UserRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds complaints for the benchmarks. Rows are created "now", so the application's own
+ * escalation scheduler leaves them alone; benchmarks that select escalation candidates
+ * query with a clock a few days ahead instead.
+ */
+final class BenchmarkData {
+
+    private static final Complaint.Status[] HISTORY_STATUSES = {
+            Complaint.Status.NEW, Complaint.Status.UNDER_REVIEW, Complaint.Status.IN_PROGRESS
+    };
+
+    private final ComplaintRepository complaintRepository;
+    private final ComplaintStatusHistoryRepository historyRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Random random = new Random(42);
+
+    BenchmarkData(ApplicationContext context) {
+        this.complaintRepository = context.getBean(ComplaintRepository.class);
+        this.historyRepository = context.getBean(ComplaintStatusHistoryRepository.class);
+        this.userRepository = context.getBean(UserRepository.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    User citizen(String username) {
+        return transactionTemplate.execute(status -> userRepository.findByUsername(username).orElseGet(() ->
+                userRepository.save(new User(username, username + "@example.com", "{noop}password", User.Role.CITIZEN))));
+    }
+
+    User officer(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalStateException("Seeded officer missing: " + username));
+    }
+
+    /**
+     * One complaint, assigned to {@code officer}, with {@code historySize} status history rows
+     * (every fifth an internal note).
+     */
+    Long complaintWithHistory(User citizen, User officer, int historySize) {
+        return transactionTemplate.execute(status -> {
+            Complaint complaint = newComplaint(citizen, 0);
+            complaint.setAssignedOfficer(officer);
+            complaint.setStatus(Complaint.Status.IN_PROGRESS);
+            Complaint saved = complaintRepository.save(complaint);
+
+            List<ComplaintStatusHistory> history = new ArrayList<>(historySize);
+            for (int i = 0; i < historySize; i++) {
+                ComplaintStatusHistory entry = new ComplaintStatusHistory(
+                        HISTORY_STATUSES[i % HISTORY_STATUSES.length],
+                        "Update " + i + ": investigating the reported issue and following up with the department",
+                        saved,
+                        i % 2 == 0 ? officer : citizen);
+                entry.setInternalNote(i % 5 == 0);
+                history.add(entry);
+            }
+            historyRepository.saveAll(history);
+            return saved.getId();
+        });
+    }
+
+    /**
+     * {@code count} complaints in batches; {@code assignedTo} null leaves them unassigned.
+     * Due dates fall within the next {@code dueWithinHours} hours.
+     */
+    void complaints(User citizen, User assignedTo, int count, int dueWithinHours) {
+        int batch = 500;
+        for (int start = 0; start < count; start += batch) {
+            int size = Math.min(batch, count - start);
+            int offset = start;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Complaint> complaints = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    Complaint complaint = newComplaint(citizen, offset + i);
+                    complaint.setAssignedOfficer(assignedTo);
+                    complaint.setDueDate(LocalDateTime.now().plusHours(1 + random.nextInt(dueWithinHours)));
+                    complaints.add(complaint);
+                }
+                complaintRepository.saveAll(complaints);
+            });
+        }
+    }
+
+    private Complaint newComplaint(User citizen, int n) {
+        Complaint.Category[] categories = Complaint.Category.values();
+        Complaint.Priority[] priorities = Complaint.Priority.values();
+        Complaint complaint = new Complaint(
+                "Benchmark complaint " + n,
+                "Streetlight outside block " + n + " has not worked for two weeks and the area is unsafe at night.",
+                categories[random.nextInt(categories.length)],
+                priorities[random.nextInt(priorities.length)]);
+        complaint.setUser(citizen);
+        complaint.setIsAnonymous(Boolean.FALSE);
+        return complaint;
+    }
+}
@@ -0,0 +1,74 @@
+package com.resolveit.grievancemanagement.benchmark;
+
+import com.resolveit.grievancemanagement.dto.AdminComplaintResponse;
+import com.resolveit.grievancemanagement.dto.UserComplaintResponse;
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.repository.ComplaintRepository;
+import com.resolveit.grievancemanagement.service.AdminComplaintService;
+import com.resolveit.grievancemanagement.service.ComplaintService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response mapping for a single complaint whose status history is fully loaded, as done by
+ * the admin/officer detail views and the citizen detail view. Measures the mapping itself,
+ * not the query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class ComplaintMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int historySize;
+
+    private ConfigurableApplicationContext context;
+    private AdminComplaintService adminComplaintService;
+    private ComplaintService complaintService;
+    private Method mapToUserResponse;
+    private Complaint complaint;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start();
+        adminComplaintService = context.getBean(AdminComplaintService.class);
+        complaintService = context.getBean(ComplaintService.class);
+
+        // Citizen-facing mapping is private; it is only reachable through the access checks
+        mapToUserResponse = ComplaintService.class.getDeclaredMethod("mapToUserResponse", Complaint.class);
+        mapToUserResponse.setAccessible(true);
+
+        BenchmarkData data = new BenchmarkData(context);
+        User citizen = data.citizen("bench_citizen");
+        User officer = data.officer("officer_l1_1");
+        Long id = data.complaintWithHistory(citizen, officer, historySize);
+
+        ComplaintRepository complaintRepository = context.getBean(ComplaintRepository.class);
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        tx.setReadOnly(true);
+        complaint = tx.execute(status -> complaintRepository.findByIdWithStatusHistory(id).orElseThrow());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AdminComplaintResponse adminMapToResponse() {
+        return adminComplaintService.mapToResponse(complaint);
+    }
+
+    @Benchmark
+    public UserComplaintResponse citizenMapToUserResponse() throws Exception {
+        return (UserComplaintResponse) mapToUserResponse.invoke(complaintService, complaint);
+    }
+}
@@ -0,0 +1,82 @@
+package com.resolveit.grievancemanagement.benchmark;
+
+import com.resolveit.grievancemanagement.service.DuplicateComplaintDetector;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Near-duplicate lookup against an LSH index of {@code openComplaints} synthetic complaints,
+ * for a resubmitted (reworded) complaint and for unrelated text. No database is involved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@State(Scope.Benchmark)
+public class DuplicateDetectionBenchmark {
+
+    private static final String[] WORDS = {
+            "water", "supply", "road", "pothole", "street", "light", "garbage", "collection",
+            "sewage", "drain", "blocked", "broken", "noise", "electricity", "outage", "network",
+            "internet", "hostel", "fees", "refund", "salary", "delay", "parking", "lift",
+            "security", "guard", "maintenance", "leak", "pipe", "bus", "stop", "signal",
+            "traffic", "park", "tree", "fallen", "mosquito", "fogging", "clinic", "doctor"
+    };
+
+    @Param({"100000"})
+    private int openComplaints;
+
+    private DuplicateComplaintDetector detector;
+    private String duplicateTitle;
+    private String duplicateDescription;
+    private String uniqueTitle;
+    private String uniqueDescription;
+
+    @Setup
+    public void setUp() {
+        detector = new DuplicateComplaintDetector(null);
+        ReflectionTestUtils.setField(detector, "enabled", true);
+        ReflectionTestUtils.setField(detector, "threshold", 0.7);
+
+        SplittableRandom random = new SplittableRandom(42);
+        String originalDescription = null;
+        for (long id = 1; id <= openComplaints; id++) {
+            String description = sentence(random, 40);
+            detector.index(id, sentence(random, 6), description);
+            if (id == openComplaints / 2) {
+                originalDescription = description;
+            }
+        }
+
+        // Same text with one extra sentence appended, as a citizen refiling would
+        duplicateTitle = "Re: complaint still not fixed";
+        duplicateDescription = originalDescription + " Still waiting, please act.";
+        uniqueTitle = "Projector missing in seminar hall";
+        uniqueDescription = "The projector in seminar hall B has been missing since the last event.";
+    }
+
+    @Benchmark
+    public DuplicateComplaintDetector.Match findResubmittedComplaint() {
+        return detector.findDuplicate(duplicateTitle, duplicateDescription);
+    }
+
+    @Benchmark
+    public DuplicateComplaintDetector.Match findUnrelatedComplaint() {
+        return detector.findDuplicate(uniqueTitle, uniqueDescription);
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.resolveit.grievancemanagement.benchmark;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.repository.ComplaintRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One chunk of escalation candidate selection, as EscalationService fetches it, against a
+ * table where most rows are not yet due. The clock is moved forward so the seeded rows
+ * become candidates without the running scheduler touching them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class EscalationSelectionBenchmark {
+
+    private static final List<Complaint.Status> UNASSIGNED_STATUSES =
+            List.of(Complaint.Status.NEW, Complaint.Status.UNDER_REVIEW);
+    private static final List<Complaint.Status> ACTIVE_STATUSES =
+            List.of(Complaint.Status.NEW, Complaint.Status.UNDER_REVIEW, Complaint.Status.IN_PROGRESS);
+
+    @Param({"20000"})
+    public int complaints;
+
+    @Param({"200"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ComplaintRepository complaintRepository;
+    private TransactionTemplate readOnly;
+    private LocalDateTime now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        complaintRepository = context.getBean(ComplaintRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        BenchmarkData data = new BenchmarkData(context);
+        User citizen = data.citizen("bench_citizen");
+        // Half unassigned, half held by an L1 officer with due dates spread over a week
+        data.complaints(citizen, null, complaints / 2, 24 * 7);
+        data.complaints(citizen, data.officer("officer_l1_1"), complaints / 2, 24 * 7);
+
+        // Every unassigned row is past escalate_at, about half the assigned rows are overdue
+        now = LocalDateTime.now().plusDays(3);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Complaint> unassignedChunk() {
+        return readOnly.execute(status -> complaintRepository.findUnassignedComplaintsForEscalation(
+                UNASSIGNED_STATUSES, now, 0L, PageRequest.of(0, batchSize)));
+    }
+
+    @Benchmark
+    public List<Complaint> overdueChunk() {
+        return readOnly.execute(status -> complaintRepository.findOverdueComplaintsForEscalation(
+                User.OfficerLevel.L1, now, ACTIVE_STATUSES, 0L, PageRequest.of(0, batchSize)));
+    }
+}
@@ -0,0 +1,76 @@
+package com.resolveit.grievancemanagement.benchmark;
+
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.security.JwtUtils;
+import com.resolveit.grievancemanagement.service.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token validation as done by AuthTokenFilter, single-threaded so scores read as ops per core.
+ *
+ * {@code legacyValidateThenExtract} reproduces the old JwtUtils: key derivation and parser
+ * construction on every call, and the token parsed twice (validate, then read the subject).
+ * {@code prebuiltParseValidClaims} is the current single-pass path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@State(Scope.Benchmark)
+public class JwtValidationBenchmark {
+
+    static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = newJwtUtils(false);
+        User user = new User("citizen1", "citizen1@example.com", "{noop}password", User.Role.CITIZEN);
+        user.setId(1L);
+        UserPrincipal principal = UserPrincipal.create(user);
+        token = jwtUtils.generateJwtToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Benchmark
+    public String legacyValidateThenExtract() {
+        Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token);
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String prebuiltParseValidClaims() {
+        Claims claims = jwtUtils.parseValidClaims(token);
+        return claims.getSubject();
+    }
+
+    static JwtUtils newJwtUtils(boolean embedClaims) {
+        JwtUtils utils = new JwtUtils();
+        ReflectionTestUtils.setField(utils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(utils, "jwtExpirationMs", 3_600_000);
+        ReflectionTestUtils.setField(utils, "jwtRefreshExpirationMs", 86_400_000L);
+        ReflectionTestUtils.setField(utils, "embedClaims", embedClaims);
+        ReflectionTestUtils.setField(utils, "meterRegistry", new SimpleMeterRegistry());
+        utils.init();
+        return utils;
+    }
+}
@@ -0,0 +1,48 @@
+package com.resolveit.grievancemanagement.benchmark;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.service.NotificationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email body rendering for a status-change notification. Pure CPU, so no application
+ * context is started.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@State(Scope.Benchmark)
+public class NotificationBodyBenchmark {
+
+    private NotificationService notificationService;
+    private Method buildEmailBody;
+    private Complaint complaint;
+    private String comment;
+
+    @Setup
+    public void setUp() throws Exception {
+        notificationService = new NotificationService(null);
+        buildEmailBody = NotificationService.class.getDeclaredMethod("buildEmailBody",
+                Complaint.class, Complaint.Status.class, Complaint.Status.class, String.class, String.class);
+        buildEmailBody.setAccessible(true);
+
+        complaint = new Complaint("Water supply interrupted",
+                "No water in sector 4 since Monday morning.",
+                Complaint.Category.values()[0],
+                Complaint.Priority.values()[0]);
+        complaint.setId(123456L);
+        complaint.setStatus(Complaint.Status.IN_PROGRESS);
+        comment = "The maintenance team has been dispatched and expects to restore supply within 24 hours.";
+    }
+
+    @Benchmark
+    public String buildEmailBody() throws Exception {
+        return (String) buildEmailBody.invoke(notificationService, complaint,
+                Complaint.Status.UNDER_REVIEW, Complaint.Status.IN_PROGRESS, comment, "CMP-123456");
+    }
+}
@@ -0,0 +1,128 @@
+package com.resolveit.grievancemanagement.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request throughput under blocking-heavy load, platform thread pool vs. virtual threads.
+ *
+ * Each simulated request blocks for {@code externalMillis} outside the database (an SMTP
+ * round trip or a Google token check) and then holds one of {@value #POOL_SIZE} connections
+ * for {@code queryMillis}. A burst of {@value #REQUESTS} requests runs on:
+ * <ul>
+ *   <li>{@code PLATFORM}: a fixed pool of {@value #TOMCAT_MAX_THREADS} threads, Tomcat's default</li>
+ *   <li>{@code VIRTUAL}: a virtual thread per request, unbounded</li>
+ *   <li>{@code VIRTUAL_GUARDED}: virtual threads admitted as by RequestConcurrencyLimitFilter,
+ *       at {@code requestsPerConnection} requests per connection (the filter's default is 50)</li>
+ * </ul>
+ * Scores are requests per second; the {@code connectionWaitMillis} and {@code requests}
+ * counters give the mean time a request queued for a connection, which is what the guard bounds. Sleeps stand in for the blocking calls, so this measures
+ * scheduling and queueing, not the cost of the calls themselves. {@code requestsPerConnection}
+ * only affects {@code VIRTUAL_GUARDED}; sweep it with
+ * {@code -Djmh.args="-f 1 -p execution=VIRTUAL_GUARDED -p requestsPerConnection=10,25,50,100 VirtualThread"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(1)
+@State(Scope.Benchmark)
+public class VirtualThreadExecutionBenchmark {
+
+    static final int REQUESTS = 2000;
+    static final int TOMCAT_MAX_THREADS = 200;
+    // Hikari's default maximum-pool-size
+    static final int POOL_SIZE = 10;
+
+    public enum Execution {
+        PLATFORM, VIRTUAL, VIRTUAL_GUARDED
+    }
+
+    @Param({"PLATFORM", "VIRTUAL", "VIRTUAL_GUARDED"})
+    public Execution execution;
+
+    @Param({"20", "100"})
+    public int externalMillis;
+
+    @Param({"1"})
+    public int queryMillis;
+
+    @Param({"50"})
+    public int requestsPerConnection;
+
+    private ExecutorService executor;
+    private Semaphore connections;
+    private Semaphore admission;
+    private final AtomicLong connectionWaitNanos = new AtomicLong();
+
+    // Totals per iteration; connectionWaitMillis / requests is the mean wait for a connection
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Waits {
+        public long connectionWaitMillis;
+        public long requests;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = execution == Execution.PLATFORM
+                ? Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)
+                : Executors.newVirtualThreadPerTaskExecutor();
+        connections = new Semaphore(POOL_SIZE, true);
+        admission = execution == Execution.VIRTUAL_GUARDED
+                ? new Semaphore(POOL_SIZE * requestsPerConnection, true)
+                : null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void burst(Waits waits) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.execute(() -> {
+                try {
+                    handle();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        waits.connectionWaitMillis += TimeUnit.NANOSECONDS.toMillis(connectionWaitNanos.getAndSet(0));
+        waits.requests += REQUESTS;
+    }
+
+    private void handle() throws InterruptedException {
+        if (admission != null) {
+            admission.acquire();
+        }
+        try {
+            Thread.sleep(externalMillis);
+            long queued = System.nanoTime();
+            connections.acquire();
+            connectionWaitNanos.addAndGet(System.nanoTime() - queued);
+            try {
+                Thread.sleep(queryMillis);
+            } finally {
+                connections.release();
+            }
+        } finally {
+            if (admission != null) {
+                admission.release();
+            }
+        }
+    }
+}
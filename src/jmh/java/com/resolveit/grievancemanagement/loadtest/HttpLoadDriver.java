@@ -0,0 +1,316 @@
+package com.resolveit.grievancemanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load driver for a locally running instance seeded by LoadTestDataGenerator.
+ *
+ * Each worker logs in once per role and then repeatedly picks a scenario by weight:
+ * citizen create and list, officer status update, admin list and analytics. Latencies
+ * are recorded per endpoint after a warm-up and reported as throughput, p50, p99 and max,
+ * on stdout and as JSON.
+ *
+ * Options (all optional): --base-url http://localhost:8080 --duration 60 --warmup 10
+ * --concurrency 32 --citizens 200 --out target/loadtest-result.json
+ */
+public final class HttpLoadDriver {
+
+    private static final String PASSWORD = "Password@123";
+
+    private static final String[] ENDPOINTS = {
+            "citizen.create", "citizen.list", "officer.update", "admin.list", "admin.analytics"
+    };
+    private static final int[] WEIGHTS = {15, 30, 20, 25, 10};
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String baseUrl;
+    private final int citizens;
+
+    // Officer token -> complaint ids assigned to that officer
+    private final List<String> officerTokens = new ArrayList<>();
+    private final List<long[]> officerComplaints = new ArrayList<>();
+    private String adminToken;
+
+    private HttpLoadDriver(String baseUrl, int citizens) {
+        this.baseUrl = baseUrl;
+        this.citizens = citizens;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+        int citizens = Integer.parseInt(options.getOrDefault("citizens", "200"));
+        Path out = Path.of(options.getOrDefault("out", "target/loadtest-result.json"));
+
+        HttpLoadDriver driver = new HttpLoadDriver(baseUrl, citizens);
+        driver.prepare();
+
+        System.out.printf("Driving %s with %d workers: %ds warm-up, %ds measured%n",
+                baseUrl, concurrency, warmup, duration);
+
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmup);
+        long stopAt = measureFrom + TimeUnit.SECONDS.toNanos(duration);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Recorder>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            int worker = i;
+            futures.add(workers.submit(() -> driver.runWorker(worker, measureFrom, stopAt)));
+        }
+
+        Recorder total = new Recorder();
+        for (Future<Recorder> future : futures) {
+            total.merge(future.get());
+        }
+        workers.shutdown();
+
+        Map<String, Object> report = total.report(duration);
+        printReport(report);
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        Files.writeString(out, driver.mapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        System.out.println("Results written to " + out);
+    }
+
+    /**
+     * Logs in as admin and every officer, and collects a page of assigned complaint ids per officer.
+     */
+    private void prepare() throws IOException, InterruptedException {
+        adminToken = login("loadtest_admin");
+
+        JsonNode officers = getJson("/api/admin/officers", adminToken);
+        for (JsonNode officer : officers) {
+            JsonNode page = getJson("/api/admin/complaints?size=100&officerId=" + officer.get("id").asLong(), adminToken);
+            long[] ids = new long[page.get("items").size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = page.get("items").get(i).get("id").asLong();
+            }
+            if (ids.length > 0) {
+                officerTokens.add(login(officer.get("username").asText()));
+                officerComplaints.add(ids);
+            }
+        }
+        if (officerTokens.isEmpty()) {
+            throw new IllegalStateException("No officer has assigned complaints; generate data first");
+        }
+    }
+
+    private Recorder runWorker(int worker, long measureFrom, long stopAt) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String citizenToken = login("loadtest_citizen_" + (1 + worker % citizens));
+        Recorder recorder = new Recorder();
+
+        while (true) {
+            long start = System.nanoTime();
+            if (start >= stopAt) {
+                return recorder;
+            }
+            String endpoint = ENDPOINTS[pick(random)];
+            int status;
+            try {
+                status = execute(endpoint, citizenToken, random);
+            } catch (IOException e) {
+                status = -1;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (start >= measureFrom) {
+                recorder.record(endpoint, elapsed, status >= 200 && status < 300);
+            }
+        }
+    }
+
+    private int execute(String endpoint, String citizenToken, ThreadLocalRandom random)
+            throws IOException, InterruptedException {
+        switch (endpoint) {
+            case "citizen.create" -> {
+                ObjectNode body = mapper.createObjectNode()
+                        .put("title", "Load test complaint")
+                        .put("description", "Generated by the HTTP load driver to exercise complaint creation.")
+                        .put("category", "MUNICIPAL_CORPORATION")
+                        .put("priority", "MEDIUM");
+                return send(request("/api/complaints", citizenToken)
+                        .POST(HttpRequest.BodyPublishers.ofString(body.toString())));
+            }
+            case "citizen.list" -> {
+                return send(request("/api/complaints", citizenToken).GET());
+            }
+            case "officer.update" -> {
+                int officer = random.nextInt(officerTokens.size());
+                long[] ids = officerComplaints.get(officer);
+                ObjectNode body = mapper.createObjectNode()
+                        .put("status", random.nextBoolean() ? "IN_PROGRESS" : "UNDER_REVIEW")
+                        .put("officerComment", "Load test update");
+                return send(request("/api/officer/complaints/" + ids[random.nextInt(ids.length)], officerTokens.get(officer))
+                        .PUT(HttpRequest.BodyPublishers.ofString(body.toString())));
+            }
+            case "admin.list" -> {
+                return send(request("/api/admin/complaints?size=50", adminToken).GET());
+            }
+            case "admin.analytics" -> {
+                return send(request("/api/admin/analytics", adminToken).GET());
+            }
+            default -> throw new IllegalArgumentException("Unknown endpoint " + endpoint);
+        }
+    }
+
+    private String login(String username) throws IOException, InterruptedException {
+        ObjectNode body = mapper.createObjectNode().put("username", username).put("password", PASSWORD);
+        HttpResponse<String> response = client.send(request("/api/auth/signin", null)
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString())).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + username + ": HTTP " + response.statusCode());
+        }
+        return mapper.readTree(response.body()).get("token").asText();
+    }
+
+    private JsonNode getJson(String path, String token) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request(path, token).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " failed: HTTP " + response.statusCode());
+        }
+        return mapper.readTree(response.body());
+    }
+
+    private int send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        // Body is drained but not kept; the driver only measures
+        return client.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static int pick(ThreadLocalRandom random) {
+        int roll = random.nextInt(Arrays.stream(WEIGHTS).sum());
+        for (int i = 0; i < WEIGHTS.length; i++) {
+            roll -= WEIGHTS[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return WEIGHTS.length - 1;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printReport(Map<String, Object> report) {
+        System.out.printf("%-18s %9s %7s %10s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (Map.Entry<String, Object> entry : report.entrySet()) {
+            Map<String, Object> row = (Map<String, Object>) entry.getValue();
+            System.out.printf("%-18s %9d %7d %10.1f %9.2f %9.2f %9.2f%n", entry.getKey(),
+                    row.get("requests"), row.get("errors"), row.get("throughput"),
+                    row.get("p50Ms"), row.get("p99Ms"), row.get("maxMs"));
+        }
+    }
+
+    /**
+     * Per-worker latency samples in nanoseconds; merged once at the end, so no locking.
+     */
+    private static final class Recorder {
+
+        private final Map<String, long[]> samples = new HashMap<>();
+        private final Map<String, Integer> counts = new HashMap<>();
+        private final Map<String, Integer> errors = new HashMap<>();
+
+        void record(String endpoint, long nanos, boolean ok) {
+            int n = counts.getOrDefault(endpoint, 0);
+            long[] values = samples.computeIfAbsent(endpoint, k -> new long[1024]);
+            if (n == values.length) {
+                values = Arrays.copyOf(values, n * 2);
+                samples.put(endpoint, values);
+            }
+            values[n] = nanos;
+            counts.put(endpoint, n + 1);
+            if (!ok) {
+                errors.merge(endpoint, 1, Integer::sum);
+            }
+        }
+
+        void merge(Recorder other) {
+            for (String endpoint : other.counts.keySet()) {
+                long[] theirs = other.samples.get(endpoint);
+                int theirCount = other.counts.get(endpoint);
+                for (int i = 0; i < theirCount; i++) {
+                    record(endpoint, theirs[i], true);
+                }
+                errors.merge(endpoint, other.errors.getOrDefault(endpoint, 0), Integer::sum);
+            }
+        }
+
+        Map<String, Object> report(int durationSeconds) {
+            Map<String, Object> report = new LinkedHashMap<>();
+            for (String endpoint : ENDPOINTS) {
+                int n = counts.getOrDefault(endpoint, 0);
+                long[] sorted = n > 0 ? Arrays.copyOf(samples.get(endpoint), n) : new long[0];
+                Arrays.sort(sorted);
+
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("requests", n);
+                row.put("errors", errors.getOrDefault(endpoint, 0));
+                row.put("throughput", (double) n / durationSeconds);
+                row.put("p50Ms", percentileMs(sorted, 0.50));
+                row.put("p99Ms", percentileMs(sorted, 0.99));
+                row.put("maxMs", n > 0 ? sorted[n - 1] / 1_000_000.0 : 0.0);
+                report.put(endpoint, row);
+            }
+            return report;
+        }
+
+        private static double percentileMs(long[] sorted, double fraction) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int rank = (int) Math.ceil(fraction * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+    }
+}
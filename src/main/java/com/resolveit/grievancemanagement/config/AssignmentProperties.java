@@ -0,0 +1,72 @@
+package com.resolveit.grievancemanagement.config;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings for how escalated complaints are spread across L2 officers
+ * ({@code resolveit.assignment.*}).
+ */
+@Component
+@ConfigurationProperties(prefix = "resolveit.assignment")
+public class AssignmentProperties {
+
+    /**
+     * least-loaded, weighted-round-robin or category-affinity.
+     */
+    private String strategy = "least-loaded";
+
+    /**
+     * Relative share per officer username for weighted-round-robin (default weight 1).
+     */
+    private Map<String, Integer> weights = new HashMap<>();
+
+    /**
+     * Preferred officer usernames per category for category-affinity.
+     */
+    private Map<Complaint.Category, List<String>> categoryOfficers = new EnumMap<>(Complaint.Category.class);
+
+    /**
+     * How long an officer's open count is trusted before an assignment re-reads it.
+     */
+    private Duration loadMaxAge = Duration.ofMinutes(1);
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(String strategy) {
+        this.strategy = strategy;
+    }
+
+    public Map<String, Integer> getWeights() {
+        return weights;
+    }
+
+    public void setWeights(Map<String, Integer> weights) {
+        this.weights = weights;
+    }
+
+    public Map<Complaint.Category, List<String>> getCategoryOfficers() {
+        return categoryOfficers;
+    }
+
+    public void setCategoryOfficers(Map<Complaint.Category, List<String>> categoryOfficers) {
+        this.categoryOfficers = categoryOfficers;
+    }
+
+    public Duration getLoadMaxAge() {
+        return loadMaxAge;
+    }
+
+    public void setLoadMaxAge(Duration loadMaxAge) {
+        this.loadMaxAge = loadMaxAge;
+    }
+}
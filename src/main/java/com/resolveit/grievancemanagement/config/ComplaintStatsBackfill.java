@@ -0,0 +1,27 @@
+package com.resolveit.grievancemanagement.config;
+
+import com.resolveit.grievancemanagement.service.ComplaintStatsService;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the complaint_stats rollup at startup when started with
+ * {@code --resolveit.stats.rebuild-on-startup=true}. Use it once after
+ * deploying the rollup onto an existing database, or to repair drift.
+ */
+@Component
+@ConditionalOnProperty(name = "resolveit.stats.rebuild-on-startup", havingValue = "true")
+public class ComplaintStatsBackfill implements CommandLineRunner {
+
+    private final ComplaintStatsService complaintStatsService;
+
+    public ComplaintStatsBackfill(ComplaintStatsService complaintStatsService) {
+        this.complaintStatsService = complaintStatsService;
+    }
+
+    @Override
+    public void run(String... args) {
+        complaintStatsService.rebuild();
+    }
+}
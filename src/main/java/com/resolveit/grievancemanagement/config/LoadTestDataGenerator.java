@@ -0,0 +1,392 @@
+package com.resolveit.grievancemanagement.config;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.repository.UserRepository;
+import com.resolveit.grievancemanagement.service.ComplaintStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the database with production-scale synthetic data for load testing when started
+ * with {@code --resolveit.loadtest.generate=true}. Never enable this against a real database.
+ *
+ * Creates citizens ({@code loadtest_citizen_N}), one admin ({@code loadtest_admin}) and
+ * {@code complaints} complaints spread over the last {@code days} days, each with a status
+ * history, comments and attachments. All generated accounts use the seeded officers'
+ * password (Password@123). Distributions are skewed the way real traffic is: a few citizens
+ * file most complaints, weekdays and office hours dominate, older complaints are mostly
+ * closed, and resolution times are log-normal around two days.
+ *
+ * Rows are written with JDBC batches, one transaction per batch, and the complaint_stats
+ * rollup is rebuilt at the end.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(name = "resolveit.loadtest.generate", havingValue = "true")
+public class LoadTestDataGenerator implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestDataGenerator.class);
+
+    static final String PASSWORD = "Password@123";
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (username, email, password, role, first_name, last_name, is_enabled, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, TRUE, ?, ?)";
+
+    private static final String INSERT_COMPLAINT_SQL =
+            "INSERT INTO complaints (title, description, category, priority, status, is_anonymous, user_id, " +
+            "assigned_officer_id, due_date, resolved_at, officer_rating, created_at, updated_at, " +
+            "escalation_threshold_hours, escalate_at) " +
+            "VALUES (?, ?, ?, ?, ?, FALSE, ?, ?, ?, ?, ?, ?, ?, 24, ?)";
+
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO complaint_status_history (status, comment, complaint_id, changed_by, changed_at, is_internal_note) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_COMMENT_SQL =
+            "INSERT INTO complaint_comments (comment, complaint_id, user_id, is_internal, created_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ATTACHMENT_SQL =
+            "INSERT INTO file_uploads (file_name, file_path, file_type, file_size, complaint_id, uploaded_by, uploaded_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // Relative weights, in enum order
+    private static final int[] CATEGORY_WEIGHTS = {22, 28, 16, 8, 6, 5, 7, 8};
+    private static final int[] PRIORITY_WEIGHTS = {30, 45, 20, 5};
+
+    private static final String[] TOPICS = {
+            "Streetlight not working", "Garbage not collected", "Water supply interrupted",
+            "Pothole on main road", "Sewage overflow", "Broken footpath", "Noise complaint",
+            "Delay in certificate issue", "Wi-Fi outage", "Fee refund pending",
+            "Lift not working", "Illegal parking", "Stray animal menace", "Power fluctuation"
+    };
+
+    private static final String[][] ATTACHMENT_TYPES = {
+            {"jpg", "image/jpeg"}, {"png", "image/png"}, {"pdf", "application/pdf"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ComplaintStatsService complaintStatsService;
+
+    @Value("${resolveit.loadtest.complaints:1000000}")
+    private int complaintCount;
+
+    @Value("${resolveit.loadtest.citizens:50000}")
+    private int citizenCount;
+
+    @Value("${resolveit.loadtest.days:365}")
+    private int days;
+
+    @Value("${resolveit.loadtest.batch-size:2000}")
+    private int batchSize;
+
+    @Value("${resolveit.loadtest.seed:42}")
+    private long seed;
+
+    public LoadTestDataGenerator(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 UserRepository userRepository,
+                                 PasswordEncoder passwordEncoder,
+                                 ComplaintStatsService complaintStatsService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.complaintStatsService = complaintStatsService;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (userRepository.existsByUsername("loadtest_admin")) {
+            logger.warn("Load-test data already present (loadtest_admin exists); skipping generation");
+            return;
+        }
+
+        List<User> l1Officers = userRepository.findByRoleAndOfficerLevel(User.Role.OFFICER, User.OfficerLevel.L1);
+        List<User> l2Officers = userRepository.findByRoleAndOfficerLevel(User.Role.OFFICER, User.OfficerLevel.L2);
+        if (l1Officers.isEmpty() || l2Officers.isEmpty()) {
+            throw new IllegalStateException("Load-test generation needs seeded L1 and L2 officers");
+        }
+
+        Random random = new Random(seed);
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        long[] citizenIds = createUsers(now);
+        long[] l1Ids = l1Officers.stream().mapToLong(User::getId).toArray();
+        long[] l2Ids = l2Officers.stream().mapToLong(User::getId).toArray();
+
+        long histories = 0;
+        long comments = 0;
+        long attachments = 0;
+        for (int start = 0; start < complaintCount; start += batchSize) {
+            int size = Math.min(batchSize, complaintCount - start);
+            long[] written = transactionTemplate.execute(status ->
+                    writeBatch(size, random, now, citizenIds, l1Ids, l2Ids));
+            histories += written[0];
+            comments += written[1];
+            attachments += written[2];
+
+            int done = start + size;
+            if (done % (batchSize * 50) == 0 || done == complaintCount) {
+                logger.info("Generated {}/{} complaints", done, complaintCount);
+            }
+        }
+
+        int groups = complaintStatsService.rebuild();
+        logger.info("Load-test data ready in {} s: {} citizens, {} complaints, {} history rows, {} comments, " +
+                        "{} attachments, {} stat groups",
+                (System.currentTimeMillis() - started) / 1000, citizenIds.length, complaintCount,
+                histories, comments, attachments, groups);
+    }
+
+    private long[] createUsers(LocalDateTime now) {
+        String encoded = passwordEncoder.encode(PASSWORD);
+        Timestamp createdAt = Timestamp.valueOf(now.minusDays(days));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(INSERT_USER_SQL, "loadtest_admin", "loadtest_admin@resolveit.local", encoded,
+                    User.Role.ADMIN.name(), "Load", "Admin", createdAt, createdAt);
+
+            List<Object[]> rows = new ArrayList<>(batchSize);
+            for (int i = 1; i <= citizenCount; i++) {
+                rows.add(new Object[] {
+                        "loadtest_citizen_" + i, "loadtest_citizen_" + i + "@resolveit.local", encoded,
+                        User.Role.CITIZEN.name(), "Citizen", String.valueOf(i), createdAt, createdAt
+                });
+                if (rows.size() == batchSize || i == citizenCount) {
+                    jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows);
+                    rows.clear();
+                }
+            }
+        });
+
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE username LIKE 'loadtest_citizen_%' ORDER BY id", Long.class);
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Writes one batch of complaints and their children; returns [history, comments, attachments].
+     */
+    private long[] writeBatch(int size, Random random, LocalDateTime now,
+                              long[] citizenIds, long[] l1Ids, long[] l2Ids) {
+        Long maxBefore = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM complaints", Long.class);
+
+        List<GeneratedComplaint> batch = new ArrayList<>(size);
+        List<Object[]> complaintRows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            GeneratedComplaint c = generate(random, now, citizenIds, l1Ids, l2Ids);
+            batch.add(c);
+            complaintRows.add(new Object[] {
+                    c.title, c.description, c.category.name(), c.priority.name(), c.status.name(),
+                    c.citizenId, c.officerId, ts(c.dueDate), ts(c.resolvedAt), c.rating,
+                    ts(c.createdAt), ts(c.updatedAt), ts(c.escalateAt)
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_COMPLAINT_SQL, complaintRows);
+
+        // Identity values are handed out in insert order within this single-writer batch
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM complaints WHERE id > ? ORDER BY id", Long.class, maxBefore);
+
+        List<Object[]> historyRows = new ArrayList<>();
+        List<Object[]> commentRows = new ArrayList<>();
+        List<Object[]> attachmentRows = new ArrayList<>();
+        for (int i = 0; i < batch.size() && i < ids.size(); i++) {
+            addChildren(batch.get(i), ids.get(i), random, historyRows, commentRows, attachmentRows);
+        }
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, historyRows);
+        jdbcTemplate.batchUpdate(INSERT_COMMENT_SQL, commentRows);
+        jdbcTemplate.batchUpdate(INSERT_ATTACHMENT_SQL, attachmentRows);
+        return new long[] {historyRows.size(), commentRows.size(), attachmentRows.size()};
+    }
+
+    private GeneratedComplaint generate(Random random, LocalDateTime now,
+                                        long[] citizenIds, long[] l1Ids, long[] l2Ids) {
+        GeneratedComplaint c = new GeneratedComplaint();
+        c.createdAt = randomCreatedAt(random, now);
+        c.category = Complaint.Category.values()[weighted(random, CATEGORY_WEIGHTS)];
+        c.priority = Complaint.Priority.values()[weighted(random, PRIORITY_WEIGHTS)];
+        String topic = TOPICS[random.nextInt(TOPICS.length)];
+        c.title = topic;
+        c.description = topic + " near ward " + (1 + random.nextInt(200))
+                + ". Reported several times already, please look into it urgently.";
+        c.citizenId = citizenIds[skewedIndex(random, citizenIds.length)];
+        c.dueDate = c.createdAt.plusDays(3 + random.nextInt(12));
+
+        double ageHours = Duration.between(c.createdAt, now).toHours();
+        c.status = statusForAge(random, ageHours);
+
+        if (c.status == Complaint.Status.NEW) {
+            // Not picked up yet: unassigned and waiting for the escalation scheduler
+            c.escalateAt = c.createdAt.plusHours(24);
+        } else if (c.status == Complaint.Status.ESCALATED) {
+            c.officerId = l2Ids[random.nextInt(l2Ids.length)];
+        } else {
+            c.officerId = l1Ids[skewedIndex(random, l1Ids.length)];
+        }
+
+        if (c.status == Complaint.Status.RESOLVED || c.status == Complaint.Status.CLOSED) {
+            // Log-normal resolution time, median ~48h, capped at the complaint's age
+            double hours = Math.exp(Math.log(48) + random.nextGaussian() * 0.9);
+            c.resolvedAt = c.createdAt.plusMinutes((long) (Math.min(hours, ageHours) * 60));
+            if (random.nextInt(100) < 35) {
+                c.rating = 1 + weighted(random, new int[] {8, 10, 20, 32, 30});
+            }
+            c.updatedAt = c.resolvedAt;
+        } else {
+            c.updatedAt = c.createdAt.plusMinutes((long) (ageHours * 60 * random.nextDouble()));
+        }
+        return c;
+    }
+
+    private void addChildren(GeneratedComplaint c, long complaintId, Random random,
+                             List<Object[]> historyRows, List<Object[]> commentRows, List<Object[]> attachmentRows) {
+        List<Complaint.Status> path = progression(c.status);
+        long span = Math.max(1, Duration.between(c.createdAt, c.updatedAt).toMinutes());
+        for (int step = 0; step < path.size(); step++) {
+            Complaint.Status status = path.get(step);
+            LocalDateTime at = c.createdAt.plusMinutes(span * step / Math.max(1, path.size() - 1));
+            long actor = step == 0 || c.officerId == null ? c.citizenId : c.officerId;
+            historyRows.add(new Object[] {status.name(), status == Complaint.Status.NEW ? "Complaint created" : "Status updated",
+                    complaintId, actor, ts(at), false});
+        }
+        // Extra officer notes, geometric with mean ~1
+        while (c.officerId != null && random.nextInt(100) < 50) {
+            historyRows.add(new Object[] {c.status.name(), "Followed up with the field team",
+                    complaintId, c.officerId, ts(c.createdAt.plusMinutes((long) (span * random.nextDouble()))),
+                    random.nextInt(100) < 40});
+        }
+
+        int commentCount = random.nextInt(100) < 55 ? 0 : 1 + random.nextInt(4);
+        for (int i = 0; i < commentCount; i++) {
+            boolean byOfficer = c.officerId != null && i % 2 == 1;
+            commentRows.add(new Object[] {
+                    byOfficer ? "We are looking into this." : "Any update on this?",
+                    complaintId, byOfficer ? c.officerId : c.citizenId, byOfficer && random.nextBoolean(),
+                    ts(c.createdAt.plusMinutes((long) (span * random.nextDouble())))
+            });
+        }
+
+        if (random.nextInt(100) < 30) {
+            int files = 1 + random.nextInt(3);
+            for (int i = 0; i < files; i++) {
+                String[] type = ATTACHMENT_TYPES[random.nextInt(ATTACHMENT_TYPES.length)];
+                String name = "evidence_" + complaintId + "_" + i + "." + type[0];
+                attachmentRows.add(new Object[] {
+                        name, "uploads/loadtest/" + name, type[1], 50_000L + random.nextInt(4_000_000),
+                        complaintId, c.citizenId, ts(c.createdAt)
+                });
+            }
+        }
+    }
+
+    private Complaint.Status statusForAge(Random random, double ageHours) {
+        int roll = random.nextInt(100);
+        if (ageHours < 24) {
+            return roll < 60 ? Complaint.Status.NEW : roll < 85 ? Complaint.Status.UNDER_REVIEW : Complaint.Status.IN_PROGRESS;
+        }
+        if (ageHours < 24 * 14) {
+            return roll < 10 ? Complaint.Status.UNDER_REVIEW : roll < 35 ? Complaint.Status.IN_PROGRESS
+                    : roll < 42 ? Complaint.Status.ESCALATED : roll < 85 ? Complaint.Status.RESOLVED : Complaint.Status.CLOSED;
+        }
+        return roll < 2 ? Complaint.Status.IN_PROGRESS : roll < 5 ? Complaint.Status.ESCALATED
+                : roll < 45 ? Complaint.Status.RESOLVED : Complaint.Status.CLOSED;
+    }
+
+    private List<Complaint.Status> progression(Complaint.Status finalStatus) {
+        List<Complaint.Status> path = new ArrayList<>();
+        path.add(Complaint.Status.NEW);
+        switch (finalStatus) {
+            case NEW -> { }
+            case UNDER_REVIEW -> path.add(Complaint.Status.UNDER_REVIEW);
+            case IN_PROGRESS -> path.addAll(List.of(Complaint.Status.UNDER_REVIEW, Complaint.Status.IN_PROGRESS));
+            case ESCALATED -> path.addAll(List.of(Complaint.Status.UNDER_REVIEW, Complaint.Status.ESCALATED));
+            case RESOLVED -> path.addAll(List.of(Complaint.Status.UNDER_REVIEW, Complaint.Status.IN_PROGRESS,
+                    Complaint.Status.RESOLVED));
+            case CLOSED -> path.addAll(List.of(Complaint.Status.UNDER_REVIEW, Complaint.Status.IN_PROGRESS,
+                    Complaint.Status.RESOLVED, Complaint.Status.CLOSED));
+        }
+        return path;
+    }
+
+    // Weekdays and office hours are busier; the last 30 days are denser than the rest
+    private LocalDateTime randomCreatedAt(Random random, LocalDateTime now) {
+        while (true) {
+            double r = random.nextDouble();
+            long minutesAgo = (long) ((r < 0.3 ? r / 0.3 * Math.min(30, days) : r * days) * 24 * 60);
+            LocalDateTime candidate = now.minusMinutes(minutesAgo);
+            int hour = candidate.getHour();
+            boolean weekend = candidate.getDayOfWeek() == DayOfWeek.SATURDAY
+                    || candidate.getDayOfWeek() == DayOfWeek.SUNDAY;
+            int acceptance = (hour >= 9 && hour < 18 ? 100 : hour >= 7 && hour < 22 ? 45 : 10) * (weekend ? 1 : 2);
+            if (random.nextInt(200) < acceptance) {
+                return candidate;
+            }
+        }
+    }
+
+    private int weighted(Random random, int[] weights) {
+        int total = 0;
+        for (int w : weights) {
+            total += w;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    // Power-law pick: low indexes are chosen far more often (a few heavy users/officers)
+    private int skewedIndex(Random random, int size) {
+        return Math.min(size - 1, (int) (size * Math.pow(random.nextDouble(), 2.5)));
+    }
+
+    private static Timestamp ts(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    private static class GeneratedComplaint {
+        String title;
+        String description;
+        Complaint.Category category;
+        Complaint.Priority priority;
+        Complaint.Status status;
+        long citizenId;
+        Long officerId;
+        LocalDateTime createdAt;
+        LocalDateTime updatedAt;
+        LocalDateTime dueDate;
+        LocalDateTime resolvedAt;
+        LocalDateTime escalateAt;
+        Integer rating;
+    }
+}
@@ -4,6 +4,7 @@ import com.resolveit.grievancemanagement.entity.User;
 import com.resolveit.grievancemanagement.repository.UserRepository;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Component;
  * and for escalation logic.
  */
 @Component
+@Order(0)
 @Profile({"default", "dev"})
 public class OfficerDataInitializer implements CommandLineRunner {
 
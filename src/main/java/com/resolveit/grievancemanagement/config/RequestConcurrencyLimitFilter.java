@@ -0,0 +1,73 @@
+package com.resolveit.grievancemanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of API requests executing at once.
+ *
+ * On platform threads Tomcat's pool did this implicitly. With one virtual thread per request
+ * nothing does, and a burst would pile up on the JDBC pool until its connection timeout. Here
+ * excess requests wait briefly for a permit and are otherwise turned away with 503.
+ * An async request (e.g. an event stream) gives its permit back once its handler returns.
+ */
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final int limit;
+    private final long acquireTimeoutMs;
+    private final Semaphore permits;
+    private final Counter rejected;
+
+    public RequestConcurrencyLimitFilter(int limit, long acquireTimeoutMs, MeterRegistry meterRegistry) {
+        this.limit = limit;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.permits = new Semaphore(limit, true);
+        this.rejected = Counter.builder("resolveit.requests.rejected")
+                .description("Requests refused because the concurrency limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("resolveit.requests.in_flight", permits, p -> this.limit - p.availablePermits())
+                .register(meterRegistry);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            // Written directly: an error dispatch would go through Spring Security unauthenticated
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"message\":\"Server busy, retry shortly\"}");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
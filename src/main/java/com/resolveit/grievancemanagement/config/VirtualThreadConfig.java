@@ -0,0 +1,69 @@
+package com.resolveit.grievancemanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Guards for the virtual-thread mode ({@code spring.threads.virtual.enabled=true}).
+ *
+ * Spring Boot then runs requests, {@code @Scheduled} tasks and the application task executor
+ * on virtual threads. Blocking on SMTP, Google token checks or slow queries no longer holds a
+ * pool thread, but concurrency is no longer bounded by a thread pool either, so API requests
+ * are admitted through {@link RequestConcurrencyLimitFilter}. By default the limit is a multiple
+ * of the JDBC pool size: high enough that requests waiting on SMTP or HTTP calls don't starve,
+ * low enough that the queue in front of the pool stays bounded. Size the pool for the database
+ * as before; more virtual threads are not a reason to raise it.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    // Pool size assumed when the DataSource isn't Hikari
+    private static final int FALLBACK_POOL_SIZE = 10;
+
+    @Bean
+    public FilterRegistrationBean<RequestConcurrencyLimitFilter> requestConcurrencyLimitFilter(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${resolveit.virtual-threads.max-concurrent-requests:0}") int maxConcurrentRequests,
+            @Value("${resolveit.virtual-threads.requests-per-connection:50}") int requestsPerConnection,
+            @Value("${resolveit.virtual-threads.acquire-timeout-ms:2000}") long acquireTimeoutMs) {
+        int poolSize = poolSize(dataSource);
+        int limit = maxConcurrentRequests > 0 ? maxConcurrentRequests : poolSize * Math.max(1, requestsPerConnection);
+
+        FilterRegistrationBean<RequestConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new RequestConcurrencyLimitFilter(limit, acquireTimeoutMs, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // Ahead of Spring Security, so refused requests cost no token validation
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+
+        logger.info("Virtual threads enabled: at most {} concurrent API requests over {} JDBC connections",
+                limit, poolSize);
+        return registration;
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            logger.warn("Could not read the JDBC pool size: {}", e.getMessage());
+        }
+        return FALLBACK_POOL_SIZE;
+    }
+}
@@ -0,0 +1,45 @@
+package com.resolveit.grievancemanagement.controller;
+
+import com.resolveit.grievancemanagement.dto.AdminAnalyticsResponse;
+import com.resolveit.grievancemanagement.dto.MessageResponse;
+import com.resolveit.grievancemanagement.service.AdminAnalyticsService;
+import com.resolveit.grievancemanagement.service.ComplaintStatsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminAnalyticsController {
+
+    private final AdminAnalyticsService adminAnalyticsService;
+    private final ComplaintStatsService complaintStatsService;
+
+    public AdminAnalyticsController(AdminAnalyticsService adminAnalyticsService,
+                                    ComplaintStatsService complaintStatsService) {
+        this.adminAnalyticsService = adminAnalyticsService;
+        this.complaintStatsService = complaintStatsService;
+    }
+
+    /**
+     * Aggregated counts, resolution-time percentiles and SLA breach rate.
+     * {@code days} controls how far back the per-day series goes (default 30).
+     */
+    @GetMapping
+    public ResponseEntity<AdminAnalyticsResponse> getAnalytics(
+            @RequestParam(value = "days", required = false) Integer days
+    ) {
+        return ResponseEntity.ok(adminAnalyticsService.getAnalytics(days));
+    }
+
+    /**
+     * Recompute the complaint_stats rollup from the complaints table (backfill / repair).
+     */
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<MessageResponse> rebuildStats() {
+        int groups = complaintStatsService.rebuild();
+        return ResponseEntity.ok(new MessageResponse("Complaint statistics rebuilt (" + groups + " groups)"));
+    }
+}
@@ -1,15 +1,26 @@
 package com.resolveit.grievancemanagement.controller;
 
+import com.resolveit.grievancemanagement.dto.AdminBulkUpdateRequest;
+import com.resolveit.grievancemanagement.dto.AdminBulkUpdateResponse;
+import com.resolveit.grievancemanagement.dto.AdminComplaintFilter;
 import com.resolveit.grievancemanagement.dto.AdminComplaintResponse;
 import com.resolveit.grievancemanagement.dto.AdminComplaintUpdateRequest;
 import com.resolveit.grievancemanagement.dto.AdminInternalNoteRequest;
+import com.resolveit.grievancemanagement.dto.ComplaintDelta;
+import com.resolveit.grievancemanagement.dto.ComplaintSearchResponse;
+import com.resolveit.grievancemanagement.dto.CursorPage;
+import com.resolveit.grievancemanagement.dto.MessageResponse;
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.security.CurrentUserResolver;
+import com.resolveit.grievancemanagement.service.AdminComplaintBulkService;
 import com.resolveit.grievancemanagement.service.AdminComplaintService;
+import com.resolveit.grievancemanagement.service.ComplaintSearchService;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/admin/complaints")
@@ -17,20 +28,99 @@ import java.util.List;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminComplaintController {
 
+    // Clients may keep responses but must revalidate them (If-None-Match) before each use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final AdminComplaintService adminComplaintService;
+    private final AdminComplaintBulkService adminComplaintBulkService;
+    private final ComplaintSearchService complaintSearchService;
+    private final CurrentUserResolver currentUserResolver;
 
-    public AdminComplaintController(AdminComplaintService adminComplaintService) {
+    public AdminComplaintController(AdminComplaintService adminComplaintService,
+                                    AdminComplaintBulkService adminComplaintBulkService,
+                                    ComplaintSearchService complaintSearchService,
+                                    CurrentUserResolver currentUserResolver) {
         this.adminComplaintService = adminComplaintService;
+        this.adminComplaintBulkService = adminComplaintBulkService;
+        this.complaintSearchService = complaintSearchService;
+        this.currentUserResolver = currentUserResolver;
     }
 
+    /**
+     * Keyset-paginated listing, newest first. Filters are optional query parameters
+     * (status, category, priority, officerId, from, to); pass the returned nextCursor
+     * as {@code cursor} to continue.
+     */
     @GetMapping
-    public ResponseEntity<List<AdminComplaintResponse>> listComplaints() {
-        return ResponseEntity.ok(adminComplaintService.listAllComplaints());
+    public ResponseEntity<CursorPage<AdminComplaintResponse>> listComplaints(
+            AdminComplaintFilter filter,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest
+    ) {
+        String eTag = adminComplaintService.complaintsETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE)
+                .body(adminComplaintService.listComplaints(filter, cursor, size));
+    }
+
+    /**
+     * Delta sync over all complaints: those created or changed since the {@code since} cursor,
+     * in update order. Listing filters do not apply; start with an empty {@code since}.
+     */
+    @GetMapping(params = "since")
+    public ResponseEntity<ComplaintDelta<AdminComplaintResponse>> listChanges(
+            @RequestParam("since") String since,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(adminComplaintService.listChanges(since, size));
+    }
+
+    /**
+     * Applies one change (officer, priority, status, internal note) to every complaint in
+     * {@code complaintIds} or matching {@code filter}, and reports the outcome per complaint.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<AdminBulkUpdateResponse> bulkUpdate(@Valid @RequestBody AdminBulkUpdateRequest request) {
+        return ResponseEntity.ok(adminComplaintBulkService.bulkUpdate(request));
+    }
+
+    /**
+     * Ranked full-text search over titles, descriptions, comments and history notes.
+     * Accepts the same filters as the listing; officers only see their own complaints.
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('OFFICER')")
+    public ResponseEntity<ComplaintSearchResponse> searchComplaints(
+            @RequestParam("q") String query,
+            AdminComplaintFilter filter,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        if (currentUserResolver.getPrincipal().getRole() == User.Role.OFFICER) {
+            filter.setOfficerId(currentUserResolver.getPrincipal().getId());
+        }
+        return ResponseEntity.ok(complaintSearchService.search(query, filter, page, size));
+    }
+
+    @PostMapping("/search/reindex")
+    public ResponseEntity<MessageResponse> reindexSearch() {
+        if (!complaintSearchService.rebuildAsync()) {
+            return ResponseEntity.status(409).body(new MessageResponse("Search index rebuild already running"));
+        }
+        return ResponseEntity.accepted().body(new MessageResponse("Search index rebuild started"));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<AdminComplaintResponse> getComplaint(@PathVariable Long id) {
-        return ResponseEntity.ok(adminComplaintService.getComplaint(id));
+    public ResponseEntity<AdminComplaintResponse> getComplaint(@PathVariable Long id, WebRequest webRequest) {
+        String eTag = adminComplaintService.getComplaintETag(id);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE)
+                .body(adminComplaintService.getComplaint(id));
     }
 
     @PutMapping("/{id}")
@@ -44,6 +134,14 @@ public class AdminComplaintController {
                                                                   @Valid @RequestBody AdminInternalNoteRequest request) {
         return ResponseEntity.ok(adminComplaintService.addInternalNote(id, request.getMessage()));
     }
-}
 
+    @PostMapping("/{id}/merge")
+    public ResponseEntity<AdminComplaintResponse> mergeDuplicate(@PathVariable Long id) {
+        return ResponseEntity.ok(adminComplaintService.mergeDuplicate(id));
+    }
 
+    @PostMapping("/{id}/dismiss-duplicate")
+    public ResponseEntity<AdminComplaintResponse> dismissDuplicate(@PathVariable Long id) {
+        return ResponseEntity.ok(adminComplaintService.dismissDuplicate(id));
+    }
+}
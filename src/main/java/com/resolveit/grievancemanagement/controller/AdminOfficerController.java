@@ -2,13 +2,12 @@ package com.resolveit.grievancemanagement.controller;
 
 import com.resolveit.grievancemanagement.dto.OfficerListItem;
 import com.resolveit.grievancemanagement.entity.User;
-import com.resolveit.grievancemanagement.repository.UserRepository;
+import com.resolveit.grievancemanagement.service.OfficerWorkloadService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/admin/officers")
@@ -16,27 +15,20 @@ import java.util.stream.Collectors;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminOfficerController {
 
-    private final UserRepository userRepository;
+    private final OfficerWorkloadService officerWorkloadService;
 
-    public AdminOfficerController(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public AdminOfficerController(OfficerWorkloadService officerWorkloadService) {
+        this.officerWorkloadService = officerWorkloadService;
     }
 
+    /**
+     * Officers with their workload: open, in-progress, escalated and overdue counts,
+     * resolved count, average resolution time and average citizen rating.
+     */
     @GetMapping
     public ResponseEntity<List<OfficerListItem>> listOfficers(
             @RequestParam(value = "level", required = false) User.OfficerLevel level
     ) {
-        List<User> officers;
-        if (level != null) {
-            officers = userRepository.findByRoleAndOfficerLevel(User.Role.OFFICER, level);
-        } else {
-            officers = userRepository.findByRole(User.Role.OFFICER);
-        }
-
-        List<OfficerListItem> response = officers.stream()
-                .map(OfficerListItem::new)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(officerWorkloadService.listOfficers(level));
     }
 }
@@ -4,12 +4,16 @@ import com.resolveit.grievancemanagement.dto.JwtResponse;
 import com.resolveit.grievancemanagement.dto.LoginRequest;
 import com.resolveit.grievancemanagement.dto.MessageResponse;
 import com.resolveit.grievancemanagement.dto.SignupRequest;
+import com.resolveit.grievancemanagement.dto.TokenRefreshRequest;
 import com.resolveit.grievancemanagement.entity.User;
 import com.resolveit.grievancemanagement.repository.UserRepository;
 import com.resolveit.grievancemanagement.security.JwtUtils;
 import com.resolveit.grievancemanagement.service.UserDetailsServiceImpl;
+import com.resolveit.grievancemanagement.service.UserPrincipal;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -61,11 +65,30 @@ public class AuthController {
             return ResponseEntity.badRequest().body(new MessageResponse("User not found"));
         }
 
-        return ResponseEntity.ok(new JwtResponse(jwt,
-                user.getId(),
-                user.getUsername(),
-                user.getEmail(),
-                user.getRole().name()));
+        return ResponseEntity.ok(buildJwtResponse(jwt, user));
+    }
+    
+    /**
+     * Exchanges a refresh token for a new access token (and a rotated refresh token).
+     * The user is re-read here, so role or officer-level changes take effect on refresh.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshToken(@Valid @RequestBody TokenRefreshRequest request) {
+        String refreshToken = request.getRefreshToken();
+        Claims claims = jwtUtils.parseValidClaims(refreshToken);
+        if (claims == null || !jwtUtils.isRefreshToken(claims)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("Invalid refresh token"));
+        }
+
+        User user = userRepository.findByUsername(claims.getSubject()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse("User not found"));
+        }
+
+        UserPrincipal principal = UserPrincipal.create(user);
+        String jwt = jwtUtils.generateJwtToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        return ResponseEntity.ok(buildJwtResponse(jwt, user));
     }
     
     @PostMapping("/signup")
@@ -136,15 +159,22 @@ public class AuthController {
             return userRepository.save(u);
         });
 
+        UserPrincipal principal = UserPrincipal.create(user);
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                user.getUsername(), null, user.getAuthorities());
+                principal, null, principal.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = jwtUtils.generateJwtToken(authentication);
 
-        return ResponseEntity.ok(new JwtResponse(jwt,
+        return ResponseEntity.ok(buildJwtResponse(jwt, user));
+    }
+
+    private JwtResponse buildJwtResponse(String jwt, User user) {
+        JwtResponse response = new JwtResponse(jwt,
                 user.getId(),
                 user.getUsername(),
                 user.getEmail(),
-                user.getRole().name()));
+                user.getRole().name());
+        response.setRefreshToken(jwtUtils.generateRefreshToken(user.getUsername()));
+        return response;
     }
 }
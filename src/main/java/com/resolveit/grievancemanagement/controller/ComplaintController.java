@@ -1,21 +1,29 @@
 package com.resolveit.grievancemanagement.controller;
 
+import com.resolveit.grievancemanagement.dto.ComplaintDelta;
+import com.resolveit.grievancemanagement.dto.ComplaintListItem;
 import com.resolveit.grievancemanagement.dto.ComplaintRequest;
 import com.resolveit.grievancemanagement.dto.ComplaintRatingRequest;
+import com.resolveit.grievancemanagement.dto.CursorPage;
 import com.resolveit.grievancemanagement.dto.UserComplaintResponse;
 import com.resolveit.grievancemanagement.entity.Complaint;
 import com.resolveit.grievancemanagement.service.ComplaintService;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/complaints")
 @CrossOrigin(origins = "*", maxAge = 3600)
 public class ComplaintController {
 
+    // Clients may keep responses but must revalidate them (If-None-Match) before each use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final ComplaintService complaintService;
 
     public ComplaintController(ComplaintService complaintService) {
@@ -33,13 +41,44 @@ public class ComplaintController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Complaint>> myComplaints() {
-        return ResponseEntity.ok(complaintService.listMyComplaints());
+    public ResponseEntity<CursorPage<ComplaintListItem>> myComplaints(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest) {
+        String eTag = complaintService.myComplaintsETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE)
+                .body(complaintService.listMyComplaints(cursor, size));
+    }
+
+    @GetMapping(params = "since")
+    public ResponseEntity<ComplaintDelta<ComplaintListItem>> myChanges(
+            @RequestParam("since") String since,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(complaintService.listMyChanges(since, size));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<Map<Complaint.Status, Long>> mySummary(WebRequest webRequest) {
+        String eTag = complaintService.myComplaintsETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE)
+                .body(complaintService.countMyComplaintsByStatus());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<UserComplaintResponse> details(@PathVariable Long id) {
-        return ResponseEntity.ok(complaintService.getMyComplaint(id));
+    public ResponseEntity<UserComplaintResponse> details(@PathVariable Long id, WebRequest webRequest) {
+        // Answers a matching If-None-Match with 304 before the complaint and its history are loaded
+        String eTag = complaintService.getMyComplaintETag(id);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE)
+                .body(complaintService.getMyComplaint(id));
     }
 
     @PutMapping("/{id}")
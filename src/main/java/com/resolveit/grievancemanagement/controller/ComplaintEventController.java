@@ -0,0 +1,30 @@
+package com.resolveit.grievancemanagement.controller;
+
+import com.resolveit.grievancemanagement.security.CurrentUserResolver;
+import com.resolveit.grievancemanagement.service.ComplaintEventBroadcaster;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ComplaintEventController {
+
+    private final ComplaintEventBroadcaster broadcaster;
+    private final CurrentUserResolver currentUserResolver;
+
+    public ComplaintEventController(ComplaintEventBroadcaster broadcaster, CurrentUserResolver currentUserResolver) {
+        this.broadcaster = broadcaster;
+        this.currentUserResolver = currentUserResolver;
+    }
+
+    /**
+     * Server-Sent Events stream of changes to the complaints the caller can see
+     * (all for admins, assigned ones for officers, their own for citizens).
+     */
+    @GetMapping(value = "/complaints", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter complaintEvents() {
+        return broadcaster.subscribe(currentUserResolver.getPrincipal());
+    }
+}
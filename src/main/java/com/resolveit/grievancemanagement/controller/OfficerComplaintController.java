@@ -1,12 +1,15 @@
 package com.resolveit.grievancemanagement.controller;
 
 import com.resolveit.grievancemanagement.dto.AdminComplaintResponse;
+import com.resolveit.grievancemanagement.dto.ComplaintDelta;
 import com.resolveit.grievancemanagement.dto.OfficerComplaintUpdateRequest;
 import com.resolveit.grievancemanagement.service.OfficerComplaintService;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,6 +19,9 @@ import java.util.List;
 @PreAuthorize("hasRole('OFFICER') or hasRole('ADMIN')")
 public class OfficerComplaintController {
 
+    // Clients may keep responses but must revalidate them (If-None-Match) before each use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final OfficerComplaintService officerComplaintService;
 
     public OfficerComplaintController(OfficerComplaintService officerComplaintService) {
@@ -26,8 +32,25 @@ public class OfficerComplaintController {
      * List all complaints assigned to the currently authenticated officer.
      */
     @GetMapping
-    public ResponseEntity<List<AdminComplaintResponse>> listAssignedComplaints() {
-        return ResponseEntity.ok(officerComplaintService.listAssignedComplaints());
+    public ResponseEntity<List<AdminComplaintResponse>> listAssignedComplaints(WebRequest webRequest) {
+        String eTag = officerComplaintService.assignedComplaintsETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE)
+                .body(officerComplaintService.listAssignedComplaints());
+    }
+
+    /**
+     * Delta sync of the officer's list: complaints changed since the {@code since} cursor and
+     * ids of complaints no longer assigned to them. Start with an empty {@code since}.
+     */
+    @GetMapping(params = "since")
+    public ResponseEntity<ComplaintDelta<AdminComplaintResponse>> listAssignedChanges(
+            @RequestParam("since") String since,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(officerComplaintService.listAssignedChanges(since, size));
     }
 
     /**
@@ -35,8 +58,13 @@ public class OfficerComplaintController {
      * to the current officer.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<AdminComplaintResponse> getComplaint(@PathVariable Long id) {
-        return ResponseEntity.ok(officerComplaintService.getAssignedComplaint(id));
+    public ResponseEntity<AdminComplaintResponse> getComplaint(@PathVariable Long id, WebRequest webRequest) {
+        String eTag = officerComplaintService.getAssignedComplaintETag(id);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE)
+                .body(officerComplaintService.getAssignedComplaint(id));
     }
 
     /**
@@ -0,0 +1,244 @@
+package com.resolveit.grievancemanagement.dto;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-aggregated complaint statistics for the admin analytics dashboard.
+ * Its size depends on the number of groups, not on the number of complaints.
+ */
+public class AdminAnalyticsResponse {
+
+    private long total;
+
+    private Map<Complaint.Status, Long> byStatus = new LinkedHashMap<>();
+
+    private Map<Complaint.Category, Long> byCategory = new LinkedHashMap<>();
+
+    private Map<Complaint.Priority, Long> byPriority = new LinkedHashMap<>();
+
+    private List<OfficerCount> byOfficer = new ArrayList<>();
+
+    private List<DailyCount> byDay = new ArrayList<>();
+
+    private ResolutionTime resolutionHours = new ResolutionTime();
+
+    private SlaSummary sla = new SlaSummary();
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<Complaint.Status, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<Complaint.Status, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public Map<Complaint.Category, Long> getByCategory() {
+        return byCategory;
+    }
+
+    public void setByCategory(Map<Complaint.Category, Long> byCategory) {
+        this.byCategory = byCategory;
+    }
+
+    public Map<Complaint.Priority, Long> getByPriority() {
+        return byPriority;
+    }
+
+    public void setByPriority(Map<Complaint.Priority, Long> byPriority) {
+        this.byPriority = byPriority;
+    }
+
+    public List<OfficerCount> getByOfficer() {
+        return byOfficer;
+    }
+
+    public void setByOfficer(List<OfficerCount> byOfficer) {
+        this.byOfficer = byOfficer;
+    }
+
+    public List<DailyCount> getByDay() {
+        return byDay;
+    }
+
+    public void setByDay(List<DailyCount> byDay) {
+        this.byDay = byDay;
+    }
+
+    public ResolutionTime getResolutionHours() {
+        return resolutionHours;
+    }
+
+    public void setResolutionHours(ResolutionTime resolutionHours) {
+        this.resolutionHours = resolutionHours;
+    }
+
+    public SlaSummary getSla() {
+        return sla;
+    }
+
+    public void setSla(SlaSummary sla) {
+        this.sla = sla;
+    }
+
+    public static class OfficerCount {
+
+        private Long officerId;
+        private String username;
+        private long count;
+
+        public OfficerCount() {
+        }
+
+        public OfficerCount(Long officerId, String username, long count) {
+            this.officerId = officerId;
+            this.username = username;
+            this.count = count;
+        }
+
+        public Long getOfficerId() {
+            return officerId;
+        }
+
+        public void setOfficerId(Long officerId) {
+            this.officerId = officerId;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+    }
+
+    public static class DailyCount {
+
+        private LocalDate date;
+        private long count;
+
+        public DailyCount() {
+        }
+
+        public DailyCount(LocalDate date, long count) {
+            this.date = date;
+            this.count = count;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public void setDate(LocalDate date) {
+            this.date = date;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+    }
+
+    /**
+     * Percentiles of hours between creation and resolution, over resolved complaints.
+     */
+    public static class ResolutionTime {
+
+        private long sampleSize;
+        private Long p50;
+        private Long p90;
+        private Long p99;
+
+        public long getSampleSize() {
+            return sampleSize;
+        }
+
+        public void setSampleSize(long sampleSize) {
+            this.sampleSize = sampleSize;
+        }
+
+        public Long getP50() {
+            return p50;
+        }
+
+        public void setP50(Long p50) {
+            this.p50 = p50;
+        }
+
+        public Long getP90() {
+            return p90;
+        }
+
+        public void setP90(Long p90) {
+            this.p90 = p90;
+        }
+
+        public Long getP99() {
+            return p99;
+        }
+
+        public void setP99(Long p99) {
+            this.p99 = p99;
+        }
+    }
+
+    /**
+     * Complaints with a due date, and how many of them missed it
+     * (resolved late, or still open past the deadline).
+     */
+    public static class SlaSummary {
+
+        private long tracked;
+        private long breached;
+        private double breachRate;
+
+        public long getTracked() {
+            return tracked;
+        }
+
+        public void setTracked(long tracked) {
+            this.tracked = tracked;
+        }
+
+        public long getBreached() {
+            return breached;
+        }
+
+        public void setBreached(long breached) {
+            this.breached = breached;
+        }
+
+        public double getBreachRate() {
+            return breachRate;
+        }
+
+        public void setBreachRate(double breachRate) {
+            this.breachRate = breachRate;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.resolveit.grievancemanagement.dto;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Bulk change applied by administrators to many complaints at once.
+ * Targets are either {@code complaintIds} or every complaint matching {@code filter}.
+ * All change fields are optional; only provided values are applied.
+ */
+public class AdminBulkUpdateRequest {
+
+    private List<Long> complaintIds;
+
+    private AdminComplaintFilter filter;
+
+    private Complaint.Status status;
+
+    private Complaint.Priority priority;
+
+    private Long assignedOfficerId;
+
+    private Boolean unassignOfficer;
+
+    // Recorded in the history of every updated complaint and included in status emails
+    @Size(max = 1000)
+    private String adminComment;
+
+    // Added as an internal note to every targeted complaint that has an officer
+    @Size(max = 500)
+    private String internalNote;
+
+    public List<Long> getComplaintIds() {
+        return complaintIds;
+    }
+
+    public void setComplaintIds(List<Long> complaintIds) {
+        this.complaintIds = complaintIds;
+    }
+
+    public AdminComplaintFilter getFilter() {
+        return filter;
+    }
+
+    public void setFilter(AdminComplaintFilter filter) {
+        this.filter = filter;
+    }
+
+    public Complaint.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Complaint.Status status) {
+        this.status = status;
+    }
+
+    public Complaint.Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Complaint.Priority priority) {
+        this.priority = priority;
+    }
+
+    public Long getAssignedOfficerId() {
+        return assignedOfficerId;
+    }
+
+    public void setAssignedOfficerId(Long assignedOfficerId) {
+        this.assignedOfficerId = assignedOfficerId;
+    }
+
+    public Boolean getUnassignOfficer() {
+        return unassignOfficer;
+    }
+
+    public void setUnassignOfficer(Boolean unassignOfficer) {
+        this.unassignOfficer = unassignOfficer;
+    }
+
+    public String getAdminComment() {
+        return adminComment;
+    }
+
+    public void setAdminComment(String adminComment) {
+        this.adminComment = adminComment;
+    }
+
+    public String getInternalNote() {
+        return internalNote;
+    }
+
+    public void setInternalNote(String internalNote) {
+        this.internalNote = internalNote;
+    }
+}
@@ -0,0 +1,126 @@
+package com.resolveit.grievancemanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk update: totals plus one entry per targeted complaint, in id order.
+ */
+public class AdminBulkUpdateResponse {
+
+    private int requested;
+
+    private int updated;
+
+    private int unchanged;
+
+    private int skipped;
+
+    private int failed;
+
+    private List<ItemResult> items = new ArrayList<>();
+
+    public void add(ItemResult item) {
+        items.add(item);
+        switch (item.getOutcome()) {
+            case UPDATED -> updated++;
+            case UNCHANGED -> unchanged++;
+            case SKIPPED -> skipped++;
+            case NOT_FOUND, FAILED -> failed++;
+        }
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(int unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(int skipped) {
+        this.skipped = skipped;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<ItemResult> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ItemResult> items) {
+        this.items = items;
+    }
+
+    public enum Outcome {
+        UPDATED, UNCHANGED, SKIPPED, NOT_FOUND, FAILED
+    }
+
+    public static class ItemResult {
+
+        private Long complaintId;
+
+        private Outcome outcome;
+
+        private String message;
+
+        public ItemResult() {
+        }
+
+        public ItemResult(Long complaintId, Outcome outcome, String message) {
+            this.complaintId = complaintId;
+            this.outcome = outcome;
+            this.message = message;
+        }
+
+        public Long getComplaintId() {
+            return complaintId;
+        }
+
+        public void setComplaintId(Long complaintId) {
+            this.complaintId = complaintId;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public void setOutcome(Outcome outcome) {
+            this.outcome = outcome;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.resolveit.grievancemanagement.dto;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional server-side filters for the admin complaint listing.
+ * Bound from query parameters; unset fields are ignored.
+ */
+public class AdminComplaintFilter {
+
+    private Complaint.Status status;
+
+    private Complaint.Category category;
+
+    private Complaint.Priority priority;
+
+    private Long officerId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    // Only complaints flagged as possible duplicates at submission
+    private Boolean duplicates;
+
+    public Complaint.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Complaint.Status status) {
+        this.status = status;
+    }
+
+    public Complaint.Category getCategory() {
+        return category;
+    }
+
+    public void setCategory(Complaint.Category category) {
+        this.category = category;
+    }
+
+    public Complaint.Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Complaint.Priority priority) {
+        this.priority = priority;
+    }
+
+    public Long getOfficerId() {
+        return officerId;
+    }
+
+    public void setOfficerId(Long officerId) {
+        this.officerId = officerId;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public Boolean getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(Boolean duplicates) {
+        this.duplicates = duplicates;
+    }
+}
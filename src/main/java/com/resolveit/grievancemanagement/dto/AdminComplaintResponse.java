@@ -45,6 +45,10 @@ public class AdminComplaintResponse {
 
     private List<StatusHistoryEntry> statusHistory = new ArrayList<>();
 
+    private Long duplicateOfId;
+
+    private Double duplicateSimilarity;
+
     public Long getId() {
         return id;
     }
@@ -181,6 +185,22 @@ public class AdminComplaintResponse {
         this.statusHistory = statusHistory;
     }
 
+    public Long getDuplicateOfId() {
+        return duplicateOfId;
+    }
+
+    public void setDuplicateOfId(Long duplicateOfId) {
+        this.duplicateOfId = duplicateOfId;
+    }
+
+    public Double getDuplicateSimilarity() {
+        return duplicateSimilarity;
+    }
+
+    public void setDuplicateSimilarity(Double duplicateSimilarity) {
+        this.duplicateSimilarity = duplicateSimilarity;
+    }
+
     public static class CitizenSummary {
 
         private Long id;
@@ -0,0 +1,81 @@
+package com.resolveit.grievancemanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Changes to a complaint list since a sync cursor: complaints created or updated since then,
+ * in (updatedAt, id) order, and ids of complaints that left the caller's list.
+ *
+ * Pass {@code nextCursor} back as {@code since}. While {@code hasMore} is set there are more
+ * changes to fetch right away. When {@code resyncRequired} is set the cursor is older than the
+ * retained removals; reload the list from an empty {@code since}.
+ */
+public class ComplaintDelta<T> {
+
+    private List<T> items = new ArrayList<>();
+
+    private List<Long> removedIds = new ArrayList<>();
+
+    private String nextCursor;
+
+    private boolean hasMore;
+
+    private boolean resyncRequired;
+
+    public ComplaintDelta() {
+    }
+
+    public ComplaintDelta(List<T> items, List<Long> removedIds, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.removedIds = removedIds;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public static <T> ComplaintDelta<T> resync() {
+        ComplaintDelta<T> delta = new ComplaintDelta<>();
+        delta.setResyncRequired(true);
+        return delta;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public List<Long> getRemovedIds() {
+        return removedIds;
+    }
+
+    public void setRemovedIds(List<Long> removedIds) {
+        this.removedIds = removedIds;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public boolean isResyncRequired() {
+        return resyncRequired;
+    }
+
+    public void setResyncRequired(boolean resyncRequired) {
+        this.resyncRequired = resyncRequired;
+    }
+}
@@ -0,0 +1,99 @@
+package com.resolveit.grievancemanagement.dto;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change notice pushed on the complaint event stream. It carries only what a list row
+ * needs to react; clients fetch the complaint again for details.
+ */
+public class ComplaintEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        ASSIGNED,
+        NOTE_ADDED,
+        // Not sent to the citizen who filed the complaint
+        INTERNAL_NOTE
+    }
+
+    private Type type;
+    private Long complaintId;
+    private String ticketNumber;
+    private Complaint.Status status;
+    private Complaint.Priority priority;
+    private Long assignedOfficerId;
+    private LocalDateTime occurredAt;
+
+    public ComplaintEvent() {
+    }
+
+    public ComplaintEvent(Type type, Complaint complaint) {
+        this.type = type;
+        this.complaintId = complaint.getId();
+        this.ticketNumber = complaint.getId() != null ? "CMP-" + String.format("%06d", complaint.getId()) : null;
+        this.status = complaint.getStatus();
+        this.priority = complaint.getPriority();
+        this.assignedOfficerId = complaint.getAssignedOfficer() != null ? complaint.getAssignedOfficer().getId() : null;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getComplaintId() {
+        return complaintId;
+    }
+
+    public void setComplaintId(Long complaintId) {
+        this.complaintId = complaintId;
+    }
+
+    public String getTicketNumber() {
+        return ticketNumber;
+    }
+
+    public void setTicketNumber(String ticketNumber) {
+        this.ticketNumber = ticketNumber;
+    }
+
+    public Complaint.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Complaint.Status status) {
+        this.status = status;
+    }
+
+    public Complaint.Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Complaint.Priority priority) {
+        this.priority = priority;
+    }
+
+    public Long getAssignedOfficerId() {
+        return assignedOfficerId;
+    }
+
+    public void setAssignedOfficerId(Long assignedOfficerId) {
+        this.assignedOfficerId = assignedOfficerId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
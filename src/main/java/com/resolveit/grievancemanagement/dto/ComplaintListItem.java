@@ -0,0 +1,137 @@
+package com.resolveit.grievancemanagement.dto;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of a citizen's complaint list, selected directly by
+ * {@code ComplaintRepository.findListItemsByUser} without loading entities.
+ */
+public class ComplaintListItem {
+
+    private Long id;
+    private String ticketNumber;
+    private String title;
+    private Complaint.Category category;
+    private Complaint.Status status;
+    private Complaint.Priority priority;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime dueDate;
+    private LocalDateTime resolvedAt;
+    private String officerName;
+
+    public ComplaintListItem() {
+    }
+
+    public ComplaintListItem(Long id, String title, Complaint.Category category, Complaint.Status status,
+                             Complaint.Priority priority, LocalDateTime createdAt, LocalDateTime updatedAt,
+                             LocalDateTime dueDate, LocalDateTime resolvedAt,
+                             String officerFirstName, String officerLastName, String officerUsername) {
+        this.id = id;
+        this.ticketNumber = id != null ? "CMP-" + String.format("%06d", id) : null;
+        this.title = title;
+        this.category = category;
+        this.status = status;
+        this.priority = priority;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.dueDate = dueDate;
+        this.resolvedAt = resolvedAt;
+        this.officerName = officerName(officerFirstName, officerLastName, officerUsername);
+    }
+
+    private static String officerName(String firstName, String lastName, String username) {
+        String name = ((firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "")).trim();
+        return name.isEmpty() ? username : name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTicketNumber() {
+        return ticketNumber;
+    }
+
+    public void setTicketNumber(String ticketNumber) {
+        this.ticketNumber = ticketNumber;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Complaint.Category getCategory() {
+        return category;
+    }
+
+    public void setCategory(Complaint.Category category) {
+        this.category = category;
+    }
+
+    public Complaint.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Complaint.Status status) {
+        this.status = status;
+    }
+
+    public Complaint.Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Complaint.Priority priority) {
+        this.priority = priority;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+
+    public void setResolvedAt(LocalDateTime resolvedAt) {
+        this.resolvedAt = resolvedAt;
+    }
+
+    public String getOfficerName() {
+        return officerName;
+    }
+
+    public void setOfficerName(String officerName) {
+        this.officerName = officerName;
+    }
+}
@@ -0,0 +1,120 @@
+package com.resolveit.grievancemanagement.dto;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One page of ranked full-text search hits, best match first.
+ */
+public class ComplaintSearchResponse {
+
+    private long total;
+
+    private List<Hit> items;
+
+    public ComplaintSearchResponse(long total, List<Hit> items) {
+        this.total = total;
+        this.items = items;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<Hit> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Hit> items) {
+        this.items = items;
+    }
+
+    public static class Hit {
+
+        private Long id;
+
+        private String title;
+
+        private Complaint.Status status;
+
+        private Complaint.Category category;
+
+        private Complaint.Priority priority;
+
+        private Long assignedOfficerId;
+
+        private LocalDateTime createdAt;
+
+        private float score;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public Complaint.Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Complaint.Status status) {
+            this.status = status;
+        }
+
+        public Complaint.Category getCategory() {
+            return category;
+        }
+
+        public void setCategory(Complaint.Category category) {
+            this.category = category;
+        }
+
+        public Complaint.Priority getPriority() {
+            return priority;
+        }
+
+        public void setPriority(Complaint.Priority priority) {
+            this.priority = priority;
+        }
+
+        public Long getAssignedOfficerId() {
+            return assignedOfficerId;
+        }
+
+        public void setAssignedOfficerId(Long assignedOfficerId) {
+            this.assignedOfficerId = assignedOfficerId;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public float getScore() {
+            return score;
+        }
+
+        public void setScore(float score) {
+            this.score = score;
+        }
+    }
+}
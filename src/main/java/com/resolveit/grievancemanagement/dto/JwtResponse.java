@@ -11,6 +11,7 @@ public class JwtResponse {
     private String username;
     private String email;
     private String role;
+    private String refreshToken;
     
     public JwtResponse() {}
     
@@ -71,4 +72,12 @@ public class JwtResponse {
     public void setRole(String role) {
         this.role = role;
     }
+    
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+    
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
 }
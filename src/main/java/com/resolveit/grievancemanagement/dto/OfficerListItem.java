@@ -4,6 +4,7 @@ import com.resolveit.grievancemanagement.entity.User;
 
 /**
  * Lightweight DTO for listing officers (e.g. in admin dropdowns).
+ * {@code workload} is only filled in by the admin officer listing.
  */
 public class OfficerListItem {
 
@@ -13,6 +14,7 @@ public class OfficerListItem {
     private String lastName;
     private String email;
     private User.OfficerLevel officerLevel;
+    private Workload workload;
 
     public OfficerListItem() {
     }
@@ -73,4 +75,88 @@ public class OfficerListItem {
     public void setOfficerLevel(User.OfficerLevel officerLevel) {
         this.officerLevel = officerLevel;
     }
+
+    public Workload getWorkload() {
+        return workload;
+    }
+
+    public void setWorkload(Workload workload) {
+        this.workload = workload;
+    }
+
+    public static class Workload {
+
+        private long open;
+        private long inProgress;
+        private long escalated;
+        private long overdue;
+        private long resolved;
+        private Double averageResolutionHours;
+        private Double averageRating;
+        private long ratingCount;
+
+        public long getOpen() {
+            return open;
+        }
+
+        public void setOpen(long open) {
+            this.open = open;
+        }
+
+        public long getInProgress() {
+            return inProgress;
+        }
+
+        public void setInProgress(long inProgress) {
+            this.inProgress = inProgress;
+        }
+
+        public long getEscalated() {
+            return escalated;
+        }
+
+        public void setEscalated(long escalated) {
+            this.escalated = escalated;
+        }
+
+        public long getOverdue() {
+            return overdue;
+        }
+
+        public void setOverdue(long overdue) {
+            this.overdue = overdue;
+        }
+
+        public long getResolved() {
+            return resolved;
+        }
+
+        public void setResolved(long resolved) {
+            this.resolved = resolved;
+        }
+
+        public Double getAverageResolutionHours() {
+            return averageResolutionHours;
+        }
+
+        public void setAverageResolutionHours(Double averageResolutionHours) {
+            this.averageResolutionHours = averageResolutionHours;
+        }
+
+        public Double getAverageRating() {
+            return averageRating;
+        }
+
+        public void setAverageRating(Double averageRating) {
+            this.averageRating = averageRating;
+        }
+
+        public long getRatingCount() {
+            return ratingCount;
+        }
+
+        public void setRatingCount(long ratingCount) {
+            this.ratingCount = ratingCount;
+        }
+    }
 }
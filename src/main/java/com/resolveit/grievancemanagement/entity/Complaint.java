@@ -1,16 +1,22 @@
 package com.resolveit.grievancemanagement.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.resolveit.grievancemanagement.service.ComplaintSearchIndexListener;
+import com.resolveit.grievancemanagement.service.DuplicateComplaintIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "complaints")
+@Table(name = "complaints", indexes = {
+        @Index(name = "idx_complaints_escalation", columnList = "status, escalate_at, assigned_officer_id")
+})
+@EntityListeners({ComplaintSearchIndexListener.class, DuplicateComplaintIndexListener.class})
 public class Complaint {
     
     @Id
@@ -77,6 +83,17 @@ public class Complaint {
     @Column(name = "escalation_threshold_hours")
     private Integer escalationThresholdHours = 24; // Default 24 hours for escalation
     
+    // createdAt + escalationThresholdHours, kept in a column so the scheduler can filter on it
+    @Column(name = "escalate_at", nullable = false)
+    private LocalDateTime escalateAt;
+    
+    // Set at submission when the text closely matches an open complaint; cleared or merged by admins
+    @Column(name = "duplicate_of_id")
+    private Long duplicateOfId;
+    
+    @Column(name = "duplicate_similarity")
+    private Double duplicateSimilarity;
+    
     @OneToMany(mappedBy = "complaint", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
     private List<ComplaintComment> comments;
@@ -85,7 +102,9 @@ public class Complaint {
     @JsonIgnore
     private List<FileUpload> attachments;
     
+    // Batch-loaded so mapping a page of complaints costs one history query, not one per row.
     @OneToMany(mappedBy = "complaint", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @JsonIgnore
     private List<ComplaintStatusHistory> statusHistory;
     
@@ -93,11 +112,22 @@ public class Complaint {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        refreshEscalateAt();
     }
     
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        refreshEscalateAt();
+    }
+    
+    public void refreshEscalateAt() {
+        if (createdAt == null) {
+            // Legacy row: keep the value V10 backfilled
+            return;
+        }
+        int hours = escalationThresholdHours != null ? escalationThresholdHours : 24;
+        escalateAt = createdAt.plusHours(hours);
     }
     
     // Constructors
@@ -174,6 +204,15 @@ public class Complaint {
     public Integer getEscalationThresholdHours() { return escalationThresholdHours; }
     public void setEscalationThresholdHours(Integer escalationThresholdHours) { this.escalationThresholdHours = escalationThresholdHours; }
     
+    public LocalDateTime getEscalateAt() { return escalateAt; }
+    public void setEscalateAt(LocalDateTime escalateAt) { this.escalateAt = escalateAt; }
+    
+    public Long getDuplicateOfId() { return duplicateOfId; }
+    public void setDuplicateOfId(Long duplicateOfId) { this.duplicateOfId = duplicateOfId; }
+    
+    public Double getDuplicateSimilarity() { return duplicateSimilarity; }
+    public void setDuplicateSimilarity(Double duplicateSimilarity) { this.duplicateSimilarity = duplicateSimilarity; }
+    
     public enum Category {
         SMART_CITY, MUNICIPAL_CORPORATION, GOVERNMENT_SERVICES, IT_HELPDESK, 
         UNIVERSITY_COLLEGE, CORPORATE_SUPPORT, HOUSING_SOCIETY, CITIZEN_GRIEVANCE
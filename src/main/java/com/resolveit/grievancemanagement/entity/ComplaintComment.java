@@ -1,6 +1,7 @@
 package com.resolveit.grievancemanagement.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.resolveit.grievancemanagement.service.ComplaintSearchIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "complaint_comments")
+@EntityListeners(ComplaintSearchIndexListener.class)
 public class ComplaintComment {
     
     @Id
@@ -0,0 +1,81 @@
+package com.resolveit.grievancemanagement.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * Rollup row: how many complaints created on {@code statDay} currently sit in a given
+ * (category, priority, status, officer) group. Maintained incrementally by
+ * ComplaintStatsService and rebuildable from the complaints table.
+ */
+@Entity
+@Table(name = "complaint_stats",
+       uniqueConstraints = @UniqueConstraint(
+               name = "uk_complaint_stats_group",
+               columnNames = {"stat_day", "category", "priority", "status", "officer_id"}))
+public class ComplaintStat {
+
+    // officer_id of groups whose complaints are unassigned; part of the unique key, so not null
+    public static final Long NO_OFFICER = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_day", nullable = false)
+    private LocalDate statDay;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Complaint.Category category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Complaint.Priority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Complaint.Status status;
+
+    @Column(name = "officer_id", nullable = false)
+    private Long officerId;
+
+    @Column(name = "complaint_count", nullable = false)
+    private Long complaintCount = 0L;
+
+    // Constructors
+    public ComplaintStat() {}
+
+    public ComplaintStat(LocalDate statDay, Complaint.Category category, Complaint.Priority priority,
+                         Complaint.Status status, Long officerId, Long complaintCount) {
+        this.statDay = statDay;
+        this.category = category;
+        this.priority = priority;
+        this.status = status;
+        this.officerId = officerId;
+        this.complaintCount = complaintCount;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDate getStatDay() { return statDay; }
+    public void setStatDay(LocalDate statDay) { this.statDay = statDay; }
+
+    public Complaint.Category getCategory() { return category; }
+    public void setCategory(Complaint.Category category) { this.category = category; }
+
+    public Complaint.Priority getPriority() { return priority; }
+    public void setPriority(Complaint.Priority priority) { this.priority = priority; }
+
+    public Complaint.Status getStatus() { return status; }
+    public void setStatus(Complaint.Status status) { this.status = status; }
+
+    public Long getOfficerId() { return officerId; }
+    public void setOfficerId(Long officerId) { this.officerId = officerId; }
+
+    public Long getComplaintCount() { return complaintCount; }
+    public void setComplaintCount(Long complaintCount) { this.complaintCount = complaintCount; }
+}
@@ -0,0 +1,52 @@
+package com.resolveit.grievancemanagement.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records that a complaint left a user's list, so delta sync can tell that user to drop it.
+ * Rows are written alongside the reassignment and purged after the retention period.
+ */
+@Entity
+@Table(name = "complaint_tombstones", indexes = {
+        @Index(name = "idx_complaint_tombstones_user_removed", columnList = "user_id, removed_at"),
+        @Index(name = "idx_complaint_tombstones_removed", columnList = "removed_at")
+})
+public class ComplaintTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "complaint_id", nullable = false)
+    private Long complaintId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "removed_at", nullable = false)
+    private LocalDateTime removedAt;
+
+    // Constructors
+    public ComplaintTombstone() {}
+
+    public ComplaintTombstone(Long complaintId, Long userId, LocalDateTime removedAt) {
+        this.complaintId = complaintId;
+        this.userId = userId;
+        this.removedAt = removedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getComplaintId() { return complaintId; }
+    public void setComplaintId(Long complaintId) { this.complaintId = complaintId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public LocalDateTime getRemovedAt() { return removedAt; }
+    public void setRemovedAt(LocalDateTime removedAt) { this.removedAt = removedAt; }
+}
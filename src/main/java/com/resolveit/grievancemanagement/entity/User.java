@@ -1,10 +1,14 @@
 package com.resolveit.grievancemanagement.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.resolveit.grievancemanagement.security.UserPrincipalCacheInvalidator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,6 +20,10 @@ import java.util.List;
 
 @Entity
 @Table(name = "users")
+@BatchSize(size = 100)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@EntityListeners(UserPrincipalCacheInvalidator.class)
 public class User implements UserDetails {
     
     @Id
@@ -2,8 +2,11 @@ package com.resolveit.grievancemanagement.repository;
 
 import com.resolveit.grievancemanagement.entity.ComplaintComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +15,8 @@ public interface ComplaintCommentRepository extends JpaRepository<ComplaintComme
     List<ComplaintComment> findByComplaintIdOrderByCreatedAtAsc(Long complaintId);
     
     List<ComplaintComment> findByComplaintIdAndIsInternalOrderByCreatedAtAsc(Long complaintId, Boolean isInternal);
+
+    // (complaintId, comment) pairs for the search indexer
+    @Query("SELECT cc.complaint.id, cc.comment FROM ComplaintComment cc WHERE cc.complaint.id IN :ids")
+    List<Object[]> findCommentTextByComplaintIds(@Param("ids") Collection<Long> ids);
 }
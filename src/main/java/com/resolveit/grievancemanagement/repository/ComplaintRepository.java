@@ -1,15 +1,19 @@
 package com.resolveit.grievancemanagement.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.resolveit.grievancemanagement.dto.ComplaintListItem;
 import com.resolveit.grievancemanagement.entity.Complaint;
 import com.resolveit.grievancemanagement.entity.User;
 
@@ -20,6 +24,7 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
     
     Page<Complaint> findByUser(User user, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"user", "assignedOfficer"})
     List<Complaint> findByAssignedOfficer(User assignedOfficer);
     
     Page<Complaint> findByAssignedOfficer(User assignedOfficer, Pageable pageable);
@@ -47,31 +52,269 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
     Long countByAssignedOfficerAndStatus(@Param("officer") User officer, 
                                         @Param("status") Complaint.Status status);
     
+    /**
+     * Rows of [officerId, count] for complaints in {@code statuses}, one grouped query for all given officers.
+     */
+    @Query("SELECT c.assignedOfficer.id, COUNT(c) FROM Complaint c " +
+           "WHERE c.assignedOfficer.id IN :officerIds AND c.status IN :statuses " +
+           "GROUP BY c.assignedOfficer.id")
+    List<Object[]> countByOfficerInStatuses(@Param("officerIds") Collection<Long> officerIds,
+                                            @Param("statuses") List<Complaint.Status> statuses);
+    
+    /**
+     * Workload of every officer in one grouped pass. Each row is [officerId, open, inProgress,
+     * escalated, overdue, resolved, avgResolutionMinutes, avgRating, ratingCount]; officers with
+     * no complaints have no row. {@code level} optionally restricts to one officer level.
+     */
+    @Query("SELECT o.id, " +
+           "SUM(CASE WHEN c.status IN :openStatuses THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN c.status = :inProgress THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN c.status = :escalated THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN c.status IN :openStatuses AND c.dueDate < :now THEN 1 ELSE 0 END), " +
+           "COUNT(c.resolvedAt), " +
+           "AVG(CASE WHEN c.resolvedAt IS NOT NULL AND c.createdAt IS NOT NULL " +
+           "         THEN (c.resolvedAt - c.createdAt) BY MINUTE ELSE NULL END), " +
+           "AVG(c.officerRating), " +
+           "COUNT(c.officerRating) " +
+           "FROM Complaint c JOIN c.assignedOfficer o " +
+           "WHERE o.role = :role AND (:level IS NULL OR o.officerLevel = :level) " +
+           "GROUP BY o.id")
+    List<Object[]> officerWorkload(@Param("role") User.Role role,
+                                   @Param("level") User.OfficerLevel level,
+                                   @Param("openStatuses") List<Complaint.Status> openStatuses,
+                                   @Param("inProgress") Complaint.Status inProgress,
+                                   @Param("escalated") Complaint.Status escalated,
+                                   @Param("now") LocalDateTime now);
+    
     @Query("SELECT DISTINCT c FROM Complaint c " +
+           "LEFT JOIN FETCH c.user " +
            "LEFT JOIN FETCH c.assignedOfficer " +
            "LEFT JOIN FETCH c.statusHistory sh " +
            "LEFT JOIN FETCH sh.changedBy " +
            "WHERE c.id = :id")
     java.util.Optional<Complaint> findByIdWithStatusHistory(@Param("id") Long id);
     
-    @Query("SELECT DISTINCT c FROM Complaint c " +
-           "LEFT JOIN FETCH c.assignedOfficer " +
-           "WHERE c.user = :user")
-    List<Complaint> findByUserWithOfficer(@Param("user") User user);
+    /**
+     * Single row of [updatedAt, ownerId, officerId, history count, highest history id] for ETags,
+     * read from the primary key and the history index without loading the complaint.
+     */
+    @Query("SELECT c.updatedAt, u.id, o.id, " +
+           "(SELECT COUNT(h) FROM ComplaintStatusHistory h WHERE h.complaint.id = c.id), " +
+           "(SELECT MAX(h.id) FROM ComplaintStatusHistory h WHERE h.complaint.id = c.id) " +
+           "FROM Complaint c LEFT JOIN c.user u LEFT JOIN c.assignedOfficer o " +
+           "WHERE c.id = :id")
+    List<Object[]> findVersion(@Param("id") Long id);
+
+    
+    @Query("SELECT c.status, COUNT(c) FROM Complaint c WHERE c.user.id = :userId GROUP BY c.status")
+    List<Object[]> countByUserGroupedByStatus(@Param("userId") Long userId);
+
+    /**
+     * Keyset page of a citizen's complaints, newest first, projected straight into list rows.
+     * Served by the (user_id, created_at) index; see ComplaintCursor for the cursor semantics.
+     */
+    @Query("SELECT new com.resolveit.grievancemanagement.dto.ComplaintListItem(" +
+           "c.id, c.title, c.category, c.status, c.priority, c.createdAt, c.updatedAt, c.dueDate, c.resolvedAt, " +
+           "o.firstName, o.lastName, o.username) " +
+           "FROM Complaint c LEFT JOIN c.assignedOfficer o " +
+           "WHERE c.user.id = :userId " +
+           "AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt " +
+           "     OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ComplaintListItem> findListItemsByUser(@Param("userId") Long userId,
+                                                @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
     
+    /**
+     * Keyset page for the admin listing, newest first. Pass a null cursor for the first page;
+     * otherwise only rows strictly after (cursorCreatedAt, cursorId) are returned.
+     * Citizen and officer are joined in; status history is batch-loaded per page.
+     */
+    @EntityGraph(attributePaths = {"user", "assignedOfficer"})
+    @Query("SELECT c FROM Complaint c " +
+           "WHERE (:status IS NULL OR c.status = :status) " +
+           "AND (:category IS NULL OR c.category = :category) " +
+           "AND (:priority IS NULL OR c.priority = :priority) " +
+           "AND (:officerId IS NULL OR c.assignedOfficer.id = :officerId) " +
+           "AND (:from IS NULL OR c.createdAt >= :from) " +
+           "AND (:to IS NULL OR c.createdAt < :to) " +
+           "AND (:duplicatesOnly = false OR c.duplicateOfId IS NOT NULL) " +
+           "AND (:cursorCreatedAt IS NULL OR c.createdAt < :cursorCreatedAt " +
+           "     OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Complaint> findAdminPage(@Param("status") Complaint.Status status,
+                                  @Param("category") Complaint.Category category,
+                                  @Param("priority") Complaint.Priority priority,
+                                  @Param("officerId") Long officerId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to,
+                                  @Param("duplicatesOnly") boolean duplicatesOnly,
+                                  @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                  @Param("cursorId") Long cursorId,
+                                  Pageable pageable);
+
+    // Delta sync reads: complaints changed after (afterUpdatedAt, afterId) in (updatedAt, id) order.
+    // Both are null for the initial sync. See ComplaintDeltaService.
+
+    @EntityGraph(attributePaths = {"user", "assignedOfficer"})
+    @Query("SELECT c FROM Complaint c " +
+           "WHERE (:afterUpdatedAt IS NULL OR c.updatedAt > :afterUpdatedAt " +
+           "       OR (c.updatedAt = :afterUpdatedAt AND c.id > :afterId)) " +
+           "ORDER BY c.updatedAt, c.id")
+    List<Complaint> findChangedSince(@Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+                                     @Param("afterId") Long afterId,
+                                     Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "assignedOfficer"})
+    @Query("SELECT c FROM Complaint c " +
+           "WHERE c.assignedOfficer.id = :officerId " +
+           "AND (:afterUpdatedAt IS NULL OR c.updatedAt > :afterUpdatedAt " +
+           "     OR (c.updatedAt = :afterUpdatedAt AND c.id > :afterId)) " +
+           "ORDER BY c.updatedAt, c.id")
+    List<Complaint> findChangedForOfficer(@Param("officerId") Long officerId,
+                                          @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+
+    @Query("SELECT new com.resolveit.grievancemanagement.dto.ComplaintListItem(" +
+           "c.id, c.title, c.category, c.status, c.priority, c.createdAt, c.updatedAt, c.dueDate, c.resolvedAt, " +
+           "o.firstName, o.lastName, o.username) " +
+           "FROM Complaint c LEFT JOIN c.assignedOfficer o " +
+           "WHERE c.user.id = :userId " +
+           "AND (:afterUpdatedAt IS NULL OR c.updatedAt > :afterUpdatedAt " +
+           "     OR (c.updatedAt = :afterUpdatedAt AND c.id > :afterId)) " +
+           "ORDER BY c.updatedAt, c.id")
+    List<ComplaintListItem> findChangedListItemsByUser(@Param("userId") Long userId,
+                                                       @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+                                                       @Param("afterId") Long afterId,
+                                                       Pageable pageable);
+
+    /**
+     * Advances updatedAt on complaints whose only change was a history row (e.g. a bulk
+     * internal note), so delta sync picks them up.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Complaint c SET c.updatedAt = :now WHERE c.id IN :ids")
+    int touch(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // Aggregates for the admin analytics dashboard that the complaint_stats rollup can't answer.
+
+    /**
+     * Histogram of whole hours between creation and resolution; percentiles are
+     * derived from it without pulling individual rows.
+     */
+    @Query("SELECT (c.resolvedAt - c.createdAt) BY HOUR, COUNT(c) FROM Complaint c " +
+           "WHERE c.resolvedAt IS NOT NULL AND c.createdAt IS NOT NULL " +
+           "GROUP BY (c.resolvedAt - c.createdAt) BY HOUR")
+    List<Object[]> resolutionHoursHistogram();
+
+    /**
+     * Single row of [complaints with a due date, complaints that missed it].
+     */
+    @Query("SELECT COUNT(c), " +
+           "SUM(CASE WHEN (c.resolvedAt IS NOT NULL AND c.resolvedAt > c.dueDate) " +
+           "          OR (c.resolvedAt IS NULL AND c.dueDate < :now) THEN 1 ELSE 0 END) " +
+           "FROM Complaint c WHERE c.dueDate IS NOT NULL")
+    List<Object[]> slaBreachSummary(@Param("now") LocalDateTime now);
+
+    /**
+     * Next batch of unassigned complaints whose escalate_at has passed, with id greater than
+     * {@code afterId}, in id order. The citizen is fetched for the notification email.
+     */
+    @EntityGraph(attributePaths = {"user"})
     @Query("SELECT c FROM Complaint c WHERE c.assignedOfficer IS NULL " +
-           "AND c.status IN :statuses")
+           "AND c.status IN :statuses " +
+           "AND c.escalateAt <= :now " +
+           "AND c.id > :afterId " +
+           "ORDER BY c.id")
     List<Complaint> findUnassignedComplaintsForEscalation(
-            @Param("statuses") List<Complaint.Status> statuses);
+            @Param("statuses") List<Complaint.Status> statuses,
+            @Param("now") LocalDateTime now,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
 
+    /**
+     * Next batch of overdue complaints held by officers of {@code level}, in id order.
+     */
+    @EntityGraph(attributePaths = {"user"})
     @Query("SELECT c FROM Complaint c " +
            "WHERE c.assignedOfficer IS NOT NULL " +
            "AND c.assignedOfficer.officerLevel = :level " +
            "AND c.dueDate IS NOT NULL " +
            "AND c.dueDate <= :now " +
-           "AND c.status IN :statuses")
+           "AND c.status IN :statuses " +
+           "AND c.id > :afterId " +
+           "ORDER BY c.id")
     List<Complaint> findOverdueComplaintsForEscalation(
             @Param("level") com.resolveit.grievancemanagement.entity.User.OfficerLevel level,
             @Param("now") java.time.LocalDateTime now,
-            @Param("statuses") List<Complaint.Status> statuses);
+            @Param("statuses") List<Complaint.Status> statuses,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    // Keyset scan by id, used to rebuild the search index
+    List<Complaint> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    /**
+     * (id, title, description) of complaints in the given statuses that are not themselves
+     * flagged duplicates, in id order; used to load the duplicate-detection index.
+     */
+    @Query("SELECT c.id, c.title, c.description FROM Complaint c " +
+           "WHERE c.status IN :statuses AND c.duplicateOfId IS NULL AND c.id > :afterId " +
+           "ORDER BY c.id")
+    List<Object[]> findTextForDuplicateIndex(@Param("statuses") List<Complaint.Status> statuses,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+
+    /**
+     * Ids of complaints matching the admin listing filters, in id order; bulk update targets.
+     */
+    @Query("SELECT c.id FROM Complaint c " +
+           "WHERE (:status IS NULL OR c.status = :status) " +
+           "AND (:category IS NULL OR c.category = :category) " +
+           "AND (:priority IS NULL OR c.priority = :priority) " +
+           "AND (:officerId IS NULL OR c.assignedOfficer.id = :officerId) " +
+           "AND (:from IS NULL OR c.createdAt >= :from) " +
+           "AND (:to IS NULL OR c.createdAt < :to) " +
+           "AND (:duplicatesOnly = false OR c.duplicateOfId IS NOT NULL) " +
+           "ORDER BY c.id")
+    List<Long> findIdsForAdminFilter(@Param("status") Complaint.Status status,
+                                     @Param("category") Complaint.Category category,
+                                     @Param("priority") Complaint.Priority priority,
+                                     @Param("officerId") Long officerId,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     @Param("duplicatesOnly") boolean duplicatesOnly,
+                                     Pageable pageable);
+
+    // Chunk of bulk update targets with the citizen joined in for notification emails
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT c FROM Complaint c WHERE c.id IN :ids ORDER BY c.id")
+    List<Complaint> findForBulkUpdate(@Param("ids") Collection<Long> ids);
+
+    // Set-based updates for admin bulk operations. They bypass entity callbacks, so callers
+    // keep updatedAt, the stats rollup and the search/duplicate indexes in step themselves.
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Complaint c SET c.assignedOfficer = :officer, c.updatedAt = :now WHERE c.id IN :ids")
+    int bulkAssignOfficer(@Param("ids") Collection<Long> ids,
+                          @Param("officer") User officer,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Complaint c SET c.priority = :priority, c.dueDate = :dueDate, c.updatedAt = :now " +
+           "WHERE c.id IN :ids")
+    int bulkUpdatePriority(@Param("ids") Collection<Long> ids,
+                           @Param("priority") Complaint.Priority priority,
+                           @Param("dueDate") LocalDateTime dueDate,
+                           @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Complaint c SET c.status = :status, c.resolvedAt = :resolvedAt, c.updatedAt = :now " +
+           "WHERE c.id IN :ids")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids,
+                         @Param("status") Complaint.Status status,
+                         @Param("resolvedAt") LocalDateTime resolvedAt,
+                         @Param("now") LocalDateTime now);
 }
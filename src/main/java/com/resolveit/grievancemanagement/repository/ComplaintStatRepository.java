@@ -0,0 +1,73 @@
+package com.resolveit.grievancemanagement.repository;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.ComplaintStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ComplaintStatRepository extends JpaRepository<ComplaintStat, Long> {
+
+    /**
+     * Adds {@code delta} to an existing group. Returns 0 when the group has no row yet;
+     * ComplaintStatsService upserts increments instead.
+     */
+    @Modifying
+    @Query("UPDATE ComplaintStat s SET s.complaintCount = s.complaintCount + :delta " +
+           "WHERE s.statDay = :day " +
+           "AND s.category = :category " +
+           "AND s.priority = :priority " +
+           "AND s.status = :status " +
+           "AND s.officerId = :officerId")
+    int adjustCount(@Param("day") LocalDate day,
+                    @Param("category") Complaint.Category category,
+                    @Param("priority") Complaint.Priority priority,
+                    @Param("status") Complaint.Status status,
+                    @Param("officerId") Long officerId,
+                    @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM ComplaintStat s")
+    int deleteAllStats();
+
+    /**
+     * Recomputes every group from the complaints table in one statement.
+     */
+    @Modifying
+    @Query("INSERT INTO ComplaintStat (statDay, category, priority, status, officerId, complaintCount) " +
+           "SELECT CAST(c.createdAt AS LocalDate), c.category, c.priority, c.status, COALESCE(o.id, 0L), COUNT(c) " +
+           "FROM Complaint c LEFT JOIN c.assignedOfficer o " +
+           "WHERE c.createdAt IS NOT NULL " +
+           "GROUP BY CAST(c.createdAt AS LocalDate), c.category, c.priority, c.status, COALESCE(o.id, 0L)")
+    int rebuildFromComplaints();
+
+    // Aggregates for the admin analytics dashboard. Each row is [group key..., count].
+
+    @Query("SELECT s.status, SUM(s.complaintCount) FROM ComplaintStat s GROUP BY s.status")
+    List<Object[]> sumGroupedByStatus();
+
+    @Query("SELECT s.category, SUM(s.complaintCount) FROM ComplaintStat s GROUP BY s.category")
+    List<Object[]> sumGroupedByCategory();
+
+    @Query("SELECT s.priority, SUM(s.complaintCount) FROM ComplaintStat s GROUP BY s.priority")
+    List<Object[]> sumGroupedByPriority();
+
+    @Query("SELECT u.id, u.username, SUM(s.complaintCount) FROM ComplaintStat s, User u " +
+           "WHERE u.id = s.officerId " +
+           "GROUP BY u.id, u.username " +
+           "HAVING SUM(s.complaintCount) > 0 " +
+           "ORDER BY SUM(s.complaintCount) DESC")
+    List<Object[]> sumGroupedByOfficer();
+
+    @Query("SELECT s.statDay, SUM(s.complaintCount) FROM ComplaintStat s " +
+           "WHERE s.statDay >= :since " +
+           "GROUP BY s.statDay " +
+           "ORDER BY s.statDay")
+    List<Object[]> sumGroupedByDaySince(@Param("since") LocalDate since);
+}
@@ -2,12 +2,19 @@ package com.resolveit.grievancemanagement.repository;
 
 import com.resolveit.grievancemanagement.entity.ComplaintStatusHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ComplaintStatusHistoryRepository extends JpaRepository<ComplaintStatusHistory, Long> {
     
     List<ComplaintStatusHistory> findByComplaintIdOrderByChangedAtAsc(Long complaintId);
+
+    // (complaintId, comment) pairs for the search indexer
+    @Query("SELECT h.complaint.id, h.comment FROM ComplaintStatusHistory h WHERE h.complaint.id IN :ids AND h.comment IS NOT NULL")
+    List<Object[]> findCommentTextByComplaintIds(@Param("ids") Collection<Long> ids);
 }
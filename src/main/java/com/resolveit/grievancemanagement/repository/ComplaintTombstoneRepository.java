@@ -0,0 +1,35 @@
+package com.resolveit.grievancemanagement.repository;
+
+import com.resolveit.grievancemanagement.entity.ComplaintTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ComplaintTombstoneRepository extends JpaRepository<ComplaintTombstone, Long> {
+
+    /**
+     * Rows of [complaintId, removedAt] for complaints that left the officer's list in
+     * [{@code after}, {@code until}] and are not assigned to them again. {@code until} may be null.
+     * The lower bound is inclusive because a tombstone can share its timestamp with the cursor;
+     * clients already treat a repeated removal as a no-op.
+     */
+    @Query("SELECT t.complaintId, MAX(t.removedAt) FROM ComplaintTombstone t " +
+           "WHERE t.userId = :userId AND t.removedAt >= :after " +
+           "AND (:until IS NULL OR t.removedAt <= :until) " +
+           "AND NOT EXISTS (SELECT c.id FROM Complaint c " +
+           "                WHERE c.id = t.complaintId AND c.assignedOfficer.id = :userId) " +
+           "GROUP BY t.complaintId")
+    List<Object[]> findRemovedFromOfficer(@Param("userId") Long userId,
+                                          @Param("after") LocalDateTime after,
+                                          @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("DELETE FROM ComplaintTombstone t WHERE t.removedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,30 @@
+package com.resolveit.grievancemanagement.repository;
+
+import com.resolveit.grievancemanagement.entity.OutboxNotification;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxNotificationRepository extends JpaRepository<OutboxNotification, Long> {
+
+    /**
+     * Oldest pending notifications that are due, locked so concurrent dispatchers
+     * (e.g. several app instances) don't claim the same rows.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM OutboxNotification n " +
+           "WHERE n.status = com.resolveit.grievancemanagement.entity.OutboxNotification.Status.PENDING " +
+           "AND n.nextAttemptAt <= :now " +
+           "ORDER BY n.id")
+    List<OutboxNotification> findDueForDispatch(@Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStatus(OutboxNotification.Status status);
+}
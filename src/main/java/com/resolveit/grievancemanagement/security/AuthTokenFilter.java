@@ -1,6 +1,8 @@
 package com.resolveit.grievancemanagement.security;
 
 import com.resolveit.grievancemanagement.service.UserDetailsServiceImpl;
+import com.resolveit.grievancemanagement.service.UserPrincipal;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,15 +25,27 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
     
+    @Autowired
+    private UserPrincipalCache principalCache;
+    
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
+            Claims claims = jwt != null ? jwtUtils.parseValidClaims(jwt) : null;
+            if (claims != null) {
+                if (jwtUtils.isRefreshToken(claims)) {
+                    // Refresh tokens are only accepted by /api/auth/refresh
+                    filterChain.doFilter(request, response);
+                    return;
+                }
                 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = jwtUtils.getPrincipalFromClaims(claims);
+                if (userDetails == null) {
+                    userDetails = principalCache.get(claims.getSubject(),
+                            name -> (UserPrincipal) userDetailsService.loadUserByUsername(name));
+                }
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(userDetails, null, 
                                                            userDetails.getAuthorities());
@@ -40,7 +54,7 @@ public class AuthTokenFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (Exception e) {
-            System.err.println("Cannot set user authentication: " + e.getMessage());
+            logger.warn("Cannot set user authentication: " + e.getMessage());
         }
         
         filterChain.doFilter(request, response);
@@ -0,0 +1,53 @@
+package com.resolveit.grievancemanagement.security;
+
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.repository.UserRepository;
+import com.resolveit.grievancemanagement.service.UserPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * Resolves the authenticated user once per request from the principal AuthTokenFilter
+ * put in the security context. Services get the id/role straight from the principal and
+ * a lazy JPA reference for associations, so no users query is issued for them.
+ */
+@Component
+@RequestScope
+public class CurrentUserResolver {
+
+    private final UserRepository userRepository;
+
+    private UserPrincipal principal;
+
+    public CurrentUserResolver(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public UserPrincipal getPrincipal() {
+        if (principal == null) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !authentication.isAuthenticated()) {
+                throw new IllegalStateException("No authenticated user found");
+            }
+            if (authentication.getPrincipal() instanceof UserPrincipal userPrincipal && userPrincipal.getRole() != null) {
+                principal = userPrincipal;
+            } else {
+                // Context not populated by AuthTokenFilter; fall back to a lookup
+                String name = authentication.getName();
+                principal = UserPrincipal.create(userRepository.findByUsernameOrEmail(name, name)
+                        .orElseThrow(() -> new IllegalStateException("Authenticated user not found")));
+            }
+        }
+        return principal;
+    }
+
+    /**
+     * Uninitialized reference to the current user, bound to the caller's persistence
+     * context, for use as an association value or in id comparisons.
+     */
+    public User getUser() {
+        return userRepository.getReferenceById(getPrincipal().getId());
+    }
+}
@@ -1,7 +1,15 @@
 package com.resolveit.grievancemanagement.security;
 
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.service.UserPrincipal;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,53 +20,157 @@ import java.util.Date;
 
 @Component
 public class JwtUtils {
-    
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
+
+    // Claim names used when jwt.embed-claims is on
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_OFFICER_LEVEL = "lvl";
+    public static final String CLAIM_TOKEN_TYPE = "typ";
+    public static final String TOKEN_TYPE_REFRESH = "refresh";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
-    
+
     @Value("${jwt.expiration}")
     private int jwtExpirationMs;
-    
+
+    @Value("${jwt.refresh-expiration:604800000}")
+    private long jwtRefreshExpirationMs;
+
+    // When on, access tokens carry user id, role and officer level so requests need no user lookup
+    @Value("${jwt.embed-claims:false}")
+    private boolean embedClaims;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Built once; JwtParser is immutable and safe to share across request threads
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    private Counter validTokens;
+    private Counter expiredTokens;
+    private Counter malformedTokens;
+    private Counter unsupportedTokens;
+    private Counter emptyTokens;
+    private Counter invalidTokens;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+
+        validTokens = validationCounter("valid");
+        expiredTokens = validationCounter("expired");
+        malformedTokens = validationCounter("malformed");
+        unsupportedTokens = validationCounter("unsupported");
+        emptyTokens = validationCounter("empty");
+        invalidTokens = validationCounter("invalid");
+    }
+
+    private Counter validationCounter(String outcome) {
+        return meterRegistry.counter("resolveit.jwt.validations", "outcome", outcome);
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return signingKey;
     }
-    
+
+    public boolean isEmbedClaims() {
+        return embedClaims;
+    }
+
     public String generateJwtToken(Authentication authentication) {
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        
-        return Jwts.builder()
+
+        JwtBuilder builder = Jwts.builder()
                 .setSubject((userPrincipal.getUsername()))
                 .setIssuedAt(new Date())
-                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
+                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs));
+
+        if (embedClaims && userPrincipal instanceof UserPrincipal principal && principal.getRole() != null) {
+            builder.claim(CLAIM_USER_ID, principal.getId())
+                    .claim(CLAIM_ROLE, principal.getRole().name());
+            if (principal.getOfficerLevel() != null) {
+                builder.claim(CLAIM_OFFICER_LEVEL, principal.getOfficerLevel().name());
+            }
+        }
+
+        return builder.signWith(getSigningKey(), SignatureAlgorithm.HS256).compact();
+    }
+
+    /**
+     * Long-lived token that can only be exchanged at /api/auth/refresh for a new access token.
+     */
+    public String generateRefreshToken(String username) {
+        return Jwts.builder()
+                .setSubject(username)
+                .claim(CLAIM_TOKEN_TYPE, TOKEN_TYPE_REFRESH)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date((new Date()).getTime() + jwtRefreshExpirationMs))
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
-    
+
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return getClaimsFromJwtToken(token).getSubject();
     }
-    
-    public boolean validateJwtToken(String authToken) {
+
+    public Claims getClaimsFromJwtToken(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Verifies the token and returns its claims in one parse, or null if it is invalid.
+     */
+    public Claims parseValidClaims(String authToken) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(authToken);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(authToken).getBody();
+            validTokens.increment();
+            return claims;
         } catch (MalformedJwtException e) {
-            System.err.println("Invalid JWT token: " + e.getMessage());
+            malformedTokens.increment();
+            logger.debug("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
-            System.err.println("JWT token is expired: " + e.getMessage());
+            expiredTokens.increment();
+            logger.debug("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
-            System.err.println("JWT token is unsupported: " + e.getMessage());
+            unsupportedTokens.increment();
+            logger.debug("JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            System.err.println("JWT claims string is empty: " + e.getMessage());
+            emptyTokens.increment();
+            logger.debug("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            invalidTokens.increment();
+            logger.debug("JWT validation failed: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return TOKEN_TYPE_REFRESH.equals(claims.get(CLAIM_TOKEN_TYPE, String.class));
+    }
+
+    /**
+     * Principal built from embedded claims, or null when the token carries none
+     * (issued before embedding was enabled) and the caller must load the user.
+     */
+    public UserPrincipal getPrincipalFromClaims(Claims claims) {
+        if (!embedClaims || claims.get(CLAIM_USER_ID) == null || claims.get(CLAIM_ROLE) == null) {
+            return null;
         }
-        return false;
+        Long userId = ((Number) claims.get(CLAIM_USER_ID)).longValue();
+        User.Role role = User.Role.valueOf(claims.get(CLAIM_ROLE, String.class));
+        String level = claims.get(CLAIM_OFFICER_LEVEL, String.class);
+        return UserPrincipal.fromClaims(userId, claims.getSubject(), role,
+                level != null ? User.OfficerLevel.valueOf(level) : null);
+    }
+
+    public boolean validateJwtToken(String authToken) {
+        return parseValidClaims(authToken) != null;
     }
 }
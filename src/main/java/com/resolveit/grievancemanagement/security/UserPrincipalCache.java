@@ -0,0 +1,118 @@
+package com.resolveit.grievancemanagement.security;
+
+import com.resolveit.grievancemanagement.service.UserPrincipal;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals keyed by token subject (username),
+ * so AuthTokenFilter does not hit the users table on every request.
+ *
+ * Entries are dropped whenever the underlying user row changes (see
+ * {@link UserPrincipalCacheInvalidator}), so role and officer-level edits apply immediately;
+ * the TTL only bounds staleness for changes made outside JPA.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private final long ttlMillis;
+    private final int maxSize;
+
+    public UserPrincipalCache(@Value("${resolveit.security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                              @Value("${resolveit.security.principal-cache.max-size:10000}") int maxSize,
+                              MeterRegistry meterRegistry) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxSize = maxSize;
+
+        FunctionCounter.builder("resolveit.principal_cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("resolveit.principal_cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("resolveit.principal_cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    public UserPrincipal get(String username, Function<String, UserPrincipal> loader) {
+        if (ttlMillis <= 0 || maxSize <= 0) {
+            misses.incrementAndGet();
+            return loader.apply(username);
+        }
+
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(username);
+        if (entry != null && entry.expiresAt > now) {
+            hits.incrementAndGet();
+            return entry.principal;
+        }
+
+        misses.incrementAndGet();
+        UserPrincipal principal = loader.apply(username);
+        if (entries.size() >= maxSize) {
+            evictExpired(now);
+        }
+        if (entries.size() < maxSize) {
+            entries.put(username, new Entry(principal, now + ttlMillis));
+        }
+        return principal;
+    }
+
+    /**
+     * Drops every cached principal for the given user id (the username may have changed).
+     */
+    public void evictUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        entries.values().removeIf(entry -> userId.equals(entry.principal.getId()));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().expiresAt <= now) {
+                it.remove();
+            }
+        }
+    }
+
+    private static final class Entry {
+        final UserPrincipal principal;
+        final long expiresAt;
+
+        Entry(UserPrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
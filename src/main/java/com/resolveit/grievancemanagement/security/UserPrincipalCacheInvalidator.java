@@ -0,0 +1,41 @@
+package com.resolveit.grievancemanagement.security;
+
+import com.resolveit.grievancemanagement.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener on {@link User}: any update (role, enabled flag, officer level, password...)
+ * or delete evicts the user's cached principal once the transaction commits. Evicting
+ * earlier would let a concurrent request reload and cache the pre-commit row.
+ */
+@Component
+public class UserPrincipalCacheInvalidator {
+
+    // Lazy, like the other entity listeners: built while Hibernate bootstraps
+    private final ObjectProvider<UserPrincipalCache> principalCache;
+
+    public UserPrincipalCacheInvalidator(ObjectProvider<UserPrincipalCache> principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        Long userId = user.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCache.getObject().evictUser(userId);
+                }
+            });
+        } else {
+            principalCache.getObject().evictUser(userId);
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.resolveit.grievancemanagement.security;
 import com.resolveit.grievancemanagement.security.jwt.AuthEntryPointJwt;
 import com.resolveit.grievancemanagement.security.AuthTokenFilter;
 import com.resolveit.grievancemanagement.service.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,6 +19,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -33,6 +38,10 @@ public class WebSecurityConfig {
     
     @Autowired
     private AuthEntryPointJwt unauthorizedHandler;
+
+    // Separate actuator port (management.server.port); -1 when actuator shares the API port
+    @Value("${management.server.port:-1}")
+    private int managementPort;
     
     @Bean
     public AuthTokenFilter authenticationJwtTokenFilter() {
@@ -66,11 +75,20 @@ public class WebSecurityConfig {
             .exceptionHandling(exception -> exception.authenticationEntryPoint(unauthorizedHandler))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> 
-                auth.requestMatchers("/api/auth/**").permitAll()
+                // Re-dispatch that closes an already-authorized event stream; the JWT filter doesn't run on it
+                auth.requestMatchers(new AndRequestMatcher(
+                            new DispatcherTypeRequestMatcher(DispatcherType.ASYNC),
+                            PathPatternRequestMatcher.withDefaults().matcher("/api/events/**"))).permitAll()
+                    .requestMatchers("/api/auth/**").permitAll()
                     .requestMatchers("/api/auth/google").permitAll()
                     .requestMatchers("/api/complaints/anonymous").permitAll()
                     .requestMatchers("/h2-console/**").permitAll()
                     .requestMatchers("/api/files/**").permitAll()
+                    .requestMatchers("/actuator/health").permitAll()
+                    // Prometheus scrapes without credentials only on the management port;
+                    // on the API port the actuator is for admins
+                    .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort).permitAll()
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
                     .anyRequest().authenticated()
             );
         
@@ -0,0 +1,135 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.dto.AdminAnalyticsResponse;
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.repository.ComplaintRepository;
+import com.resolveit.grievancemanagement.repository.ComplaintStatRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds the admin analytics dashboard from GROUP BY queries so the
+ * browser no longer needs the full complaint list to draw its charts.
+ * Counts are read from the complaint_stats rollup, so they cost O(groups).
+ */
+@Service
+public class AdminAnalyticsService {
+
+    private static final int DEFAULT_DAYS = 30;
+    private static final int MAX_DAYS = 365;
+
+    private final ComplaintRepository complaintRepository;
+    private final ComplaintStatRepository statRepository;
+
+    public AdminAnalyticsService(ComplaintRepository complaintRepository,
+                                 ComplaintStatRepository statRepository) {
+        this.complaintRepository = complaintRepository;
+        this.statRepository = statRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public AdminAnalyticsResponse getAnalytics(Integer days) {
+        int window = days == null ? DEFAULT_DAYS : Math.max(1, Math.min(days, MAX_DAYS));
+        LocalDateTime now = LocalDateTime.now();
+
+        AdminAnalyticsResponse response = new AdminAnalyticsResponse();
+
+        Map<Complaint.Status, Long> byStatus = toEnumCounts(Complaint.Status.class,
+                statRepository.sumGroupedByStatus());
+        response.setByStatus(byStatus);
+        response.setTotal(byStatus.values().stream().mapToLong(Long::longValue).sum());
+        response.setByCategory(toEnumCounts(Complaint.Category.class,
+                statRepository.sumGroupedByCategory()));
+        response.setByPriority(toEnumCounts(Complaint.Priority.class,
+                statRepository.sumGroupedByPriority()));
+
+        for (Object[] row : statRepository.sumGroupedByOfficer()) {
+            response.getByOfficer().add(new AdminAnalyticsResponse.OfficerCount(
+                    (Long) row[0], (String) row[1], ((Number) row[2]).longValue()));
+        }
+
+        LocalDate since = now.toLocalDate().minusDays(window - 1L);
+        for (Object[] row : statRepository.sumGroupedByDaySince(since)) {
+            response.getByDay().add(new AdminAnalyticsResponse.DailyCount(
+                    (LocalDate) row[0], ((Number) row[1]).longValue()));
+        }
+
+        response.setResolutionHours(toResolutionTime(complaintRepository.resolutionHoursHistogram()));
+        response.setSla(toSlaSummary(complaintRepository.slaBreachSummary(now)));
+
+        return response;
+    }
+
+    /**
+     * Every enum constant is present (zero when absent) so the payload shape is stable.
+     */
+    private <E extends Enum<E>> Map<E, Long> toEnumCounts(Class<E> type, List<Object[]> rows) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, 0L);
+        }
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                counts.put(type.cast(row[0]), ((Number) row[1]).longValue());
+            }
+        }
+        return counts;
+    }
+
+    private AdminAnalyticsResponse.ResolutionTime toResolutionTime(List<Object[]> histogram) {
+        TreeMap<Long, Long> buckets = new TreeMap<>();
+        long sampleSize = 0;
+        for (Object[] row : histogram) {
+            if (row[0] == null) {
+                continue;
+            }
+            long hours = ((Number) row[0]).longValue();
+            long count = ((Number) row[1]).longValue();
+            buckets.merge(hours, count, Long::sum);
+            sampleSize += count;
+        }
+
+        AdminAnalyticsResponse.ResolutionTime result = new AdminAnalyticsResponse.ResolutionTime();
+        result.setSampleSize(sampleSize);
+        if (sampleSize > 0) {
+            result.setP50(percentile(buckets, sampleSize, 0.50));
+            result.setP90(percentile(buckets, sampleSize, 0.90));
+            result.setP99(percentile(buckets, sampleSize, 0.99));
+        }
+        return result;
+    }
+
+    // Nearest-rank percentile over a sorted histogram
+    private Long percentile(TreeMap<Long, Long> buckets, long sampleSize, double fraction) {
+        long rank = (long) Math.ceil(fraction * sampleSize);
+        long seen = 0;
+        for (Map.Entry<Long, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen >= rank) {
+                return bucket.getKey();
+            }
+        }
+        return buckets.lastKey();
+    }
+
+    private AdminAnalyticsResponse.SlaSummary toSlaSummary(List<Object[]> rows) {
+        AdminAnalyticsResponse.SlaSummary sla = new AdminAnalyticsResponse.SlaSummary();
+        if (rows.isEmpty()) {
+            return sla;
+        }
+        Object[] row = rows.get(0);
+        long tracked = row[0] != null ? ((Number) row[0]).longValue() : 0;
+        long breached = row[1] != null ? ((Number) row[1]).longValue() : 0;
+        sla.setTracked(tracked);
+        sla.setBreached(breached);
+        sla.setBreachRate(tracked > 0 ? (double) breached / tracked : 0.0);
+        return sla;
+    }
+}
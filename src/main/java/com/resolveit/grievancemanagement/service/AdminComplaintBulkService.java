@@ -0,0 +1,380 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.dto.AdminBulkUpdateRequest;
+import com.resolveit.grievancemanagement.dto.AdminBulkUpdateResponse;
+import com.resolveit.grievancemanagement.dto.AdminComplaintFilter;
+import com.resolveit.grievancemanagement.dto.ComplaintEvent;
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.repository.ComplaintRepository;
+import com.resolveit.grievancemanagement.repository.UserRepository;
+import com.resolveit.grievancemanagement.security.CurrentUserResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies one admin change (reassign, priority, status, internal note) to many complaints.
+ *
+ * Targets are processed in chunks of {@code batchSize}, each in its own transaction: the
+ * chunk is read once, every changed attribute is written with one set-based UPDATE, history
+ * rows go in one JDBC batch and citizen emails are queued together. The newly assigned
+ * officer gets a single summary email for the whole operation. A failing chunk is reported
+ * per item and does not roll back the chunks before it.
+ */
+@Service
+public class AdminComplaintBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminComplaintBulkService.class);
+
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO complaint_status_history " +
+            "(status, comment, complaint_id, changed_by, changed_at, is_internal_note) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final ComplaintRepository complaintRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final ComplaintStatsService complaintStatsService;
+    private final OfficerAssignmentService officerAssignmentService;
+    private final ComplaintSearchService complaintSearchService;
+    private final DuplicateComplaintDetector duplicateDetector;
+    private final ComplaintEventBroadcaster eventBroadcaster;
+    private final ComplaintVersions complaintVersions;
+    private final ComplaintDeltaService deltaService;
+    private final CurrentUserResolver currentUserResolver;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${resolveit.bulk.max-items:10000}")
+    private int maxItems;
+
+    @Value("${resolveit.bulk.batch-size:500}")
+    private int batchSize;
+
+    public AdminComplaintBulkService(ComplaintRepository complaintRepository,
+                                     UserRepository userRepository,
+                                     NotificationService notificationService,
+                                     ComplaintStatsService complaintStatsService,
+                                     OfficerAssignmentService officerAssignmentService,
+                                     ComplaintSearchService complaintSearchService,
+                                     DuplicateComplaintDetector duplicateDetector,
+                                     ComplaintEventBroadcaster eventBroadcaster,
+                                     ComplaintVersions complaintVersions,
+                                     ComplaintDeltaService deltaService,
+                                     CurrentUserResolver currentUserResolver,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager) {
+        this.complaintRepository = complaintRepository;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.complaintStatsService = complaintStatsService;
+        this.officerAssignmentService = officerAssignmentService;
+        this.complaintSearchService = complaintSearchService;
+        this.duplicateDetector = duplicateDetector;
+        this.eventBroadcaster = eventBroadcaster;
+        this.complaintVersions = complaintVersions;
+        this.deltaService = deltaService;
+        this.currentUserResolver = currentUserResolver;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public AdminBulkUpdateResponse bulkUpdate(AdminBulkUpdateRequest request) {
+        boolean unassign = Boolean.TRUE.equals(request.getUnassignOfficer());
+        if (request.getAssignedOfficerId() != null && unassign) {
+            throw new IllegalArgumentException("Cannot assign and unassign an officer in the same request");
+        }
+        if (request.getStatus() == null && request.getPriority() == null && request.getAssignedOfficerId() == null
+                && !unassign && !StringUtils.hasText(request.getInternalNote())) {
+            throw new IllegalArgumentException("No changes requested");
+        }
+
+        User officer = null;
+        if (request.getAssignedOfficerId() != null) {
+            officer = userRepository.findById(request.getAssignedOfficerId())
+                    .orElseThrow(() -> new IllegalArgumentException("Assigned officer not found"));
+            if (officer.getRole() != User.Role.OFFICER && officer.getRole() != User.Role.ADMIN) {
+                throw new IllegalArgumentException("Assigned user must be an officer or admin");
+            }
+        }
+
+        List<Long> targetIds = resolveTargets(request);
+        Long adminId = currentUserResolver.getPrincipal().getId();
+
+        AdminBulkUpdateResponse response = new AdminBulkUpdateResponse();
+        response.setRequested(targetIds.size());
+        List<Long> assignedIds = new ArrayList<>();
+        Set<Long> previousOfficerIds = new LinkedHashSet<>();
+
+        for (int start = 0; start < targetIds.size(); start += batchSize) {
+            List<Long> chunk = targetIds.subList(start, Math.min(start + batchSize, targetIds.size()));
+            User assignTo = officer;
+            ChunkResult result;
+            try {
+                result = transactionTemplate.execute(status -> applyChunk(chunk, request, assignTo, unassign, adminId));
+            } catch (RuntimeException e) {
+                logger.error("Bulk update failed for complaints {}..{}: {}",
+                        chunk.get(0), chunk.get(chunk.size() - 1), e.getMessage(), e);
+                chunk.forEach(id -> response.add(new AdminBulkUpdateResponse.ItemResult(
+                        id, AdminBulkUpdateResponse.Outcome.FAILED, "Update failed: " + e.getMessage())));
+                continue;
+            }
+            result.items.forEach(response::add);
+            assignedIds.addAll(result.assignedIds);
+            previousOfficerIds.addAll(result.previousOfficerIds);
+            // Committed: refresh the indexes the entity listeners would normally update
+            result.touchedIds.forEach(complaintSearchService::markDirty);
+            result.changed.forEach(this::refreshDuplicateIndex);
+        }
+
+        if (officer != null && !assignedIds.isEmpty()) {
+            User notifyOfficer = officer;
+            transactionTemplate.executeWithoutResult(status ->
+                    notificationService.queueBulkAssignmentNotification(notifyOfficer, assignedIds));
+            previousOfficerIds.add(officer.getId());
+        }
+        if (!previousOfficerIds.isEmpty()) {
+            officerAssignmentService.reconcile(userRepository.findAllById(previousOfficerIds));
+        }
+
+        logger.info("Bulk update by admin {}: {} requested, {} updated, {} unchanged, {} skipped, {} failed",
+                adminId, response.getRequested(), response.getUpdated(), response.getUnchanged(),
+                response.getSkipped(), response.getFailed());
+        return response;
+    }
+
+    private List<Long> resolveTargets(AdminBulkUpdateRequest request) {
+        boolean hasIds = request.getComplaintIds() != null && !request.getComplaintIds().isEmpty();
+        if (hasIds == (request.getFilter() != null)) {
+            throw new IllegalArgumentException("Provide either complaintIds or filter");
+        }
+
+        List<Long> ids;
+        if (hasIds) {
+            ids = request.getComplaintIds().stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .sorted()
+                    .collect(Collectors.toList());
+        } else {
+            AdminComplaintFilter filter = request.getFilter();
+            ids = complaintRepository.findIdsForAdminFilter(
+                    filter.getStatus(),
+                    filter.getCategory(),
+                    filter.getPriority(),
+                    filter.getOfficerId(),
+                    filter.getFrom(),
+                    filter.getTo(),
+                    Boolean.TRUE.equals(filter.getDuplicates()),
+                    PageRequest.of(0, maxItems + 1));
+        }
+        if (ids.size() > maxItems) {
+            throw new IllegalArgumentException("Bulk update is limited to " + maxItems + " complaints");
+        }
+        return ids;
+    }
+
+    private ChunkResult applyChunk(List<Long> chunk,
+                                   AdminBulkUpdateRequest request,
+                                   User officer,
+                                   boolean unassign,
+                                   Long adminId) {
+        ChunkResult result = new ChunkResult();
+        Map<Long, Complaint> byId = complaintRepository.findForBulkUpdate(chunk).stream()
+                .collect(Collectors.toMap(Complaint::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp changedAt = Timestamp.valueOf(now);
+        String note = StringUtils.hasText(request.getInternalNote()) ? request.getInternalNote() : null;
+
+        List<Complaint> changed = new ArrayList<>();
+        List<Complaint> notedOnly = new ArrayList<>();
+        Map<Long, Long> previousOfficers = new HashMap<>();
+        List<Long> assignIds = new ArrayList<>();
+        List<Long> priorityIds = new ArrayList<>();
+        List<Long> statusIds = new ArrayList<>();
+        List<Object[]> historyRows = new ArrayList<>();
+
+        // Decide per complaint first; the set-based updates below clear the persistence
+        // context, and nothing may be changed on managed entities before that
+        for (Long id : chunk) {
+            Complaint complaint = byId.get(id);
+            if (complaint == null) {
+                result.items.add(new AdminBulkUpdateResponse.ItemResult(
+                        id, AdminBulkUpdateResponse.Outcome.NOT_FOUND, "Complaint not found"));
+                continue;
+            }
+
+            Long currentOfficerId = complaint.getAssignedOfficer() != null ? complaint.getAssignedOfficer().getId() : null;
+            boolean assign = officer != null ? !officer.getId().equals(currentOfficerId)
+                    : unassign && currentOfficerId != null;
+            boolean priority = request.getPriority() != null && request.getPriority() != complaint.getPriority();
+            boolean status = request.getStatus() != null && request.getStatus() != complaint.getStatus();
+            boolean officerAfter = assign ? officer != null : currentOfficerId != null;
+            boolean addNote = note != null && officerAfter;
+
+            if (!assign && !priority && !status && !addNote) {
+                result.items.add(note != null
+                        ? new AdminBulkUpdateResponse.ItemResult(id, AdminBulkUpdateResponse.Outcome.SKIPPED,
+                                "No officer assigned; internal note not added")
+                        : new AdminBulkUpdateResponse.ItemResult(id, AdminBulkUpdateResponse.Outcome.UNCHANGED, null));
+                continue;
+            }
+
+            if (assign) {
+                assignIds.add(id);
+                if (currentOfficerId != null) {
+                    result.previousOfficerIds.add(currentOfficerId);
+                    previousOfficers.put(id, currentOfficerId);
+                }
+            }
+            if (priority) {
+                priorityIds.add(id);
+            }
+            if (status) {
+                statusIds.add(id);
+            }
+
+            Complaint.Status statusAfter = status ? request.getStatus() : complaint.getStatus();
+            if (assign || priority || status) {
+                String comment = StringUtils.hasText(request.getAdminComment())
+                        ? request.getAdminComment()
+                        : describeChanges(assign ? officer : null, assign && officer == null,
+                                priority ? request.getPriority() : null, status ? request.getStatus() : null);
+                historyRows.add(new Object[] { statusAfter.name(), comment, id, adminId, changedAt, false });
+                changed.add(complaint);
+            }
+            if (addNote) {
+                historyRows.add(new Object[] { statusAfter.name(), note, id, adminId, changedAt, true });
+                if (!assign && !priority && !status) {
+                    notedOnly.add(complaint);
+                }
+            }
+            result.touchedIds.add(id);
+            result.items.add(new AdminBulkUpdateResponse.ItemResult(id, AdminBulkUpdateResponse.Outcome.UPDATED,
+                    note != null && !addNote ? "No officer assigned; internal note not added" : null));
+        }
+
+        List<ComplaintStatsService.StatKey> statsBefore = changed.stream()
+                .map(complaintStatsService::keyOf)
+                .collect(Collectors.toList());
+        Map<Long, Complaint.Status> oldStatuses = new HashMap<>();
+        changed.forEach(complaint -> oldStatuses.put(complaint.getId(), complaint.getStatus()));
+
+        if (!assignIds.isEmpty()) {
+            complaintRepository.bulkAssignOfficer(assignIds, officer, now);
+        }
+        LocalDateTime dueDate = null;
+        if (!priorityIds.isEmpty()) {
+            dueDate = AdminComplaintService.calculateDueDateFromPriority(request.getPriority());
+            complaintRepository.bulkUpdatePriority(priorityIds, request.getPriority(), dueDate, now);
+        }
+        LocalDateTime resolvedAt = null;
+        if (!statusIds.isEmpty()) {
+            resolvedAt = request.getStatus() == Complaint.Status.RESOLVED || request.getStatus() == Complaint.Status.CLOSED
+                    ? now : null;
+            complaintRepository.bulkUpdateStatus(statusIds, request.getStatus(), resolvedAt, now);
+        }
+        if (!notedOnly.isEmpty()) {
+            // Only a history row is added; bump updatedAt so delta sync reports the note
+            complaintRepository.touch(notedOnly.stream().map(Complaint::getId).toList(), now);
+        }
+        if (!historyRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, historyRows);
+        }
+        deltaService.recordRemoved(previousOfficers);
+
+        // Mirror the updates on the (now detached) copies for the rollup, emails and indexes
+        Set<Long> assignSet = Set.copyOf(assignIds);
+        Set<Long> prioritySet = Set.copyOf(priorityIds);
+        Set<Long> statusSet = Set.copyOf(statusIds);
+        for (Complaint complaint : changed) {
+            if (assignSet.contains(complaint.getId())) {
+                complaint.setAssignedOfficer(officer);
+            }
+            if (prioritySet.contains(complaint.getId())) {
+                complaint.setPriority(request.getPriority());
+                complaint.setDueDate(dueDate);
+            }
+            if (statusSet.contains(complaint.getId())) {
+                complaint.setStatus(request.getStatus());
+                complaint.setResolvedAt(resolvedAt);
+            }
+            complaint.setUpdatedAt(now);
+        }
+        notedOnly.forEach(complaint -> complaint.setUpdatedAt(now));
+        complaintStatsService.recordChanged(statsBefore, changed);
+        if (!statusIds.isEmpty()) {
+            notificationService.queueStatusChangeNotifications(changed, oldStatuses, request.getAdminComment());
+        }
+        // Delivered once this chunk commits
+        for (Complaint complaint : changed) {
+            ComplaintEvent.Type type = assignSet.contains(complaint.getId()) ? ComplaintEvent.Type.ASSIGNED
+                    : statusSet.contains(complaint.getId()) ? ComplaintEvent.Type.STATUS_CHANGED
+                    : ComplaintEvent.Type.UPDATED;
+            complaintVersions.recordChange(complaint, previousOfficers.get(complaint.getId()));
+            eventBroadcaster.publish(complaint, type, previousOfficers.get(complaint.getId()));
+        }
+        for (Complaint complaint : notedOnly) {
+            complaintVersions.recordChange(complaint, null);
+            eventBroadcaster.publish(complaint, ComplaintEvent.Type.INTERNAL_NOTE);
+        }
+
+        result.assignedIds.addAll(officer != null ? assignIds : List.of());
+        result.changed.addAll(changed);
+        return result;
+    }
+
+    private String describeChanges(User officer, boolean unassigned, Complaint.Priority priority, Complaint.Status status) {
+        List<String> parts = new ArrayList<>();
+        if (officer != null) {
+            parts.add("assigned to " + officer.getUsername());
+        }
+        if (unassigned) {
+            parts.add("officer unassigned");
+        }
+        if (priority != null) {
+            parts.add("priority " + priority);
+        }
+        if (status != null) {
+            parts.add("status " + status);
+        }
+        return "Bulk update: " + String.join(", ", parts);
+    }
+
+    private void refreshDuplicateIndex(Complaint complaint) {
+        if (complaint.getDuplicateOfId() == null
+                && DuplicateComplaintDetector.OPEN_STATUSES.contains(complaint.getStatus())) {
+            duplicateDetector.index(complaint.getId(), complaint.getTitle(), complaint.getDescription());
+        } else {
+            duplicateDetector.remove(complaint.getId());
+        }
+    }
+
+    private static class ChunkResult {
+        private final List<AdminBulkUpdateResponse.ItemResult> items = new ArrayList<>();
+        private final List<Complaint> changed = new ArrayList<>();
+        private final List<Long> assignedIds = new ArrayList<>();
+        private final List<Long> touchedIds = new ArrayList<>();
+        private final Set<Long> previousOfficerIds = new LinkedHashSet<>();
+    }
+}
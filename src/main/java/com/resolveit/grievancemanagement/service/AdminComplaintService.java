@@ -1,16 +1,20 @@
 package com.resolveit.grievancemanagement.service;
 
+import com.resolveit.grievancemanagement.dto.AdminComplaintFilter;
 import com.resolveit.grievancemanagement.dto.AdminComplaintResponse;
 import com.resolveit.grievancemanagement.dto.AdminComplaintUpdateRequest;
+import com.resolveit.grievancemanagement.dto.ComplaintCursor;
+import com.resolveit.grievancemanagement.dto.ComplaintDelta;
+import com.resolveit.grievancemanagement.dto.ComplaintEvent;
+import com.resolveit.grievancemanagement.dto.CursorPage;
 import com.resolveit.grievancemanagement.entity.Complaint;
 import com.resolveit.grievancemanagement.entity.ComplaintStatusHistory;
 import com.resolveit.grievancemanagement.entity.User;
 import com.resolveit.grievancemanagement.repository.ComplaintRepository;
 import com.resolveit.grievancemanagement.repository.ComplaintStatusHistoryRepository;
 import com.resolveit.grievancemanagement.repository.UserRepository;
-import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import com.resolveit.grievancemanagement.security.CurrentUserResolver;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -24,32 +28,101 @@ import java.util.stream.Collectors;
 @Service
 public class AdminComplaintService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final ComplaintRepository complaintRepository;
     private final ComplaintStatusHistoryRepository statusHistoryRepository;
     private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final NotificationService notificationService;
+    private final ComplaintStatsService complaintStatsService;
+    private final ComplaintEventBroadcaster eventBroadcaster;
+    private final ComplaintDeltaService deltaService;
+    private final ComplaintVersions complaintVersions;
 
     public AdminComplaintService(ComplaintRepository complaintRepository,
                                  ComplaintStatusHistoryRepository statusHistoryRepository,
                                  UserRepository userRepository,
-                                 NotificationService notificationService) {
+                                 CurrentUserResolver currentUserResolver,
+                                 NotificationService notificationService,
+                                 ComplaintStatsService complaintStatsService,
+                                 ComplaintEventBroadcaster eventBroadcaster,
+                                 ComplaintDeltaService deltaService,
+                                 ComplaintVersions complaintVersions) {
         this.complaintRepository = complaintRepository;
         this.statusHistoryRepository = statusHistoryRepository;
         this.userRepository = userRepository;
+        this.currentUserResolver = currentUserResolver;
         this.notificationService = notificationService;
+        this.complaintStatsService = complaintStatsService;
+        this.eventBroadcaster = eventBroadcaster;
+        this.deltaService = deltaService;
+        this.complaintVersions = complaintVersions;
     }
 
+    /**
+     * Returns one keyset page of complaints, newest first, matching the given filters.
+     * The cost of a page does not depend on how deep it is or how large the table is.
+     */
     @Transactional(readOnly = true)
-    public List<AdminComplaintResponse> listAllComplaints() {
-        return complaintRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"))
-                .stream()
+    public CursorPage<AdminComplaintResponse> listComplaints(AdminComplaintFilter filter, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        ComplaintCursor after = ComplaintCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists without a COUNT query
+        List<Complaint> rows = complaintRepository.findAdminPage(
+                filter.getStatus(),
+                filter.getCategory(),
+                filter.getPriority(),
+                filter.getOfficerId(),
+                filter.getFrom(),
+                filter.getTo(),
+                Boolean.TRUE.equals(filter.getDuplicates()),
+                after != null ? after.getTimestamp() : null,
+                after != null ? after.getId() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Complaint> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Complaint last = page.get(page.size() - 1);
+            nextCursor = new ComplaintCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<AdminComplaintResponse> items = page.stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Complaints created or changed since the {@code since} cursor, across all complaints.
+     * Nothing leaves the admin list, so the delta carries no removals.
+     */
+    @Transactional(readOnly = true)
+    public ComplaintDelta<AdminComplaintResponse> listChanges(String since, Integer size) {
+        return deltaService.changesSince(since, size, null,
+                complaintRepository::findChangedSince,
+                complaint -> new ComplaintCursor(complaint.getUpdatedAt(), complaint.getId()),
+                this::mapToResponse);
+    }
+
+    public String complaintsETag() {
+        return complaintVersions.allComplaintsETag();
+    }
+
+    @Transactional(readOnly = true)
+    public String getComplaintETag(Long complaintId) {
+        return complaintVersions.complaint(complaintId).getETag();
     }
 
     @Transactional(readOnly = true)
     public AdminComplaintResponse getComplaint(Long complaintId) {
-        Complaint complaint = complaintRepository.findById(complaintId)
+        // One fetch join for the complaint, its users and history, so a cold cache is not N+1
+        Complaint complaint = complaintRepository.findByIdWithStatusHistory(complaintId)
                 .orElseThrow(() -> new IllegalArgumentException("Complaint not found"));
         return mapToResponse(complaint);
     }
@@ -71,6 +144,10 @@ public class AdminComplaintService {
         );
         history.setInternalNote(true);
         statusHistoryRepository.save(history);
+        // The complaint row itself is unchanged; bump it so delta sync reports the note
+        complaint.setUpdatedAt(LocalDateTime.now());
+        complaintVersions.recordChange(complaint, null);
+        eventBroadcaster.publish(complaint, ComplaintEvent.Type.INTERNAL_NOTE);
 
         // Reload to include the new history entry in the response mapping
         return mapToResponse(complaint);
@@ -82,6 +159,8 @@ public class AdminComplaintService {
                 .orElseThrow(() -> new IllegalArgumentException("Complaint not found"));
 
         Complaint.Status oldStatus = complaint.getStatus();
+        Long oldOfficerId = complaint.getAssignedOfficer() != null ? complaint.getAssignedOfficer().getId() : null;
+        ComplaintStatsService.StatKey statsBefore = complaintStatsService.keyOf(complaint);
 
         boolean statusChanged = false;
         boolean priorityChanged = false;
@@ -131,7 +210,13 @@ public class AdminComplaintService {
             }
         }
 
+        // A comment alone only adds history; bump the complaint so delta sync reports it
+        if (StringUtils.hasText(request.getAdminComment())) {
+            complaint.setUpdatedAt(LocalDateTime.now());
+        }
+
         Complaint saved = complaintRepository.save(complaint);
+        complaintStatsService.recordChanged(statsBefore, saved);
 
         if (statusChanged || StringUtils.hasText(request.getAdminComment())) {
             ComplaintStatusHistory history = new ComplaintStatusHistory(
@@ -147,10 +232,73 @@ public class AdminComplaintService {
             notificationService.sendComplaintStatusChangeNotification(saved, oldStatus, request.getAdminComment());
         }
 
+        Long newOfficerId = saved.getAssignedOfficer() != null ? saved.getAssignedOfficer().getId() : null;
+        boolean reassigned = !Objects.equals(oldOfficerId, newOfficerId);
+        if (reassigned) {
+            deltaService.recordRemoved(saved.getId(), oldOfficerId);
+        }
+        ComplaintEvent.Type eventType = reassigned ? ComplaintEvent.Type.ASSIGNED
+                : statusChanged ? ComplaintEvent.Type.STATUS_CHANGED
+                : StringUtils.hasText(request.getAdminComment()) ? ComplaintEvent.Type.NOTE_ADDED
+                : ComplaintEvent.Type.UPDATED;
+        complaintVersions.recordChange(saved, reassigned ? oldOfficerId : null);
+        eventBroadcaster.publish(saved, eventType, reassigned ? oldOfficerId : null);
+
         return mapToResponse(saved);
     }
 
-    private LocalDateTime calculateDueDateFromPriority(Complaint.Priority priority) {
+    /**
+     * Closes a complaint flagged as a duplicate, pointing the citizen at the original ticket.
+     */
+    @Transactional
+    public AdminComplaintResponse mergeDuplicate(Long complaintId) {
+        Complaint complaint = complaintRepository.findById(complaintId)
+                .orElseThrow(() -> new IllegalArgumentException("Complaint not found"));
+        if (complaint.getDuplicateOfId() == null) {
+            throw new IllegalStateException("Complaint is not flagged as a duplicate");
+        }
+        if (complaint.getStatus() == Complaint.Status.CLOSED) {
+            throw new IllegalStateException("Complaint is already closed");
+        }
+        if (!complaintRepository.existsById(complaint.getDuplicateOfId())) {
+            throw new IllegalStateException("Original complaint no longer exists");
+        }
+
+        Complaint.Status oldStatus = complaint.getStatus();
+        ComplaintStatsService.StatKey statsBefore = complaintStatsService.keyOf(complaint);
+        complaint.setStatus(Complaint.Status.CLOSED);
+        complaint.setResolvedAt(LocalDateTime.now());
+        Complaint saved = complaintRepository.save(complaint);
+        complaintStatsService.recordChanged(statsBefore, saved);
+
+        String comment = "Merged into CMP-" + String.format("%06d", saved.getDuplicateOfId());
+        statusHistoryRepository.save(new ComplaintStatusHistory(saved.getStatus(), comment, saved, getCurrentUser()));
+        notificationService.sendComplaintStatusChangeNotification(saved, oldStatus, comment);
+        complaintVersions.recordChange(saved, null);
+        eventBroadcaster.publish(saved, ComplaintEvent.Type.STATUS_CHANGED);
+
+        return mapToResponse(saved);
+    }
+
+    /**
+     * Clears a false-positive duplicate flag; the complaint becomes a match candidate itself.
+     */
+    @Transactional
+    public AdminComplaintResponse dismissDuplicate(Long complaintId) {
+        Complaint complaint = complaintRepository.findById(complaintId)
+                .orElseThrow(() -> new IllegalArgumentException("Complaint not found"));
+        if (complaint.getDuplicateOfId() == null) {
+            throw new IllegalStateException("Complaint is not flagged as a duplicate");
+        }
+        complaint.setDuplicateOfId(null);
+        complaint.setDuplicateSimilarity(null);
+        Complaint saved = complaintRepository.save(complaint);
+        complaintVersions.recordChange(saved, null);
+        eventBroadcaster.publish(saved, ComplaintEvent.Type.UPDATED);
+        return mapToResponse(saved);
+    }
+
+    static LocalDateTime calculateDueDateFromPriority(Complaint.Priority priority) {
         if (priority == null) {
             return null;
         }
@@ -189,6 +337,8 @@ public class AdminComplaintService {
         response.setResolvedAt(complaint.getResolvedAt());
         response.setOfficerRating(complaint.getOfficerRating());
         response.setOfficerFeedback(complaint.getOfficerFeedback());
+        response.setDuplicateOfId(complaint.getDuplicateOfId());
+        response.setDuplicateSimilarity(complaint.getDuplicateSimilarity());
 
         if (complaint.getUser() != null) {
             AdminComplaintResponse.CitizenSummary citizen = new AdminComplaintResponse.CitizenSummary();
@@ -236,13 +386,7 @@ public class AdminComplaintService {
     }
 
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new IllegalStateException("No authenticated user found");
-        }
-        String principalName = authentication.getName();
-        return userRepository.findByUsernameOrEmail(principalName, principalName)
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
+        return currentUserResolver.getUser();
     }
 }
 
@@ -0,0 +1,48 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.config.AssignmentProperties;
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Prefers the officers configured for the complaint's category and picks the least
+ * loaded of them; falls back to all candidates when none are configured or available.
+ */
+@Component
+public class CategoryAffinityAssignmentStrategy implements OfficerAssignmentStrategy {
+
+    private final AssignmentProperties properties;
+    private final LeastLoadedAssignmentStrategy leastLoaded;
+
+    public CategoryAffinityAssignmentStrategy(AssignmentProperties properties,
+                                              LeastLoadedAssignmentStrategy leastLoaded) {
+        this.properties = properties;
+        this.leastLoaded = leastLoaded;
+    }
+
+    @Override
+    public String name() {
+        return "category-affinity";
+    }
+
+    @Override
+    public User choose(Complaint complaint, List<User> candidates) {
+        List<String> preferred = complaint.getCategory() != null
+                ? properties.getCategoryOfficers().get(complaint.getCategory())
+                : null;
+
+        if (preferred != null && !preferred.isEmpty()) {
+            List<User> matching = candidates.stream()
+                    .filter(officer -> preferred.contains(officer.getUsername()))
+                    .collect(Collectors.toList());
+            if (!matching.isEmpty()) {
+                return leastLoaded.choose(complaint, matching);
+            }
+        }
+        return leastLoaded.choose(complaint, candidates);
+    }
+}
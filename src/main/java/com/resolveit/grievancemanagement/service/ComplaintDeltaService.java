@@ -0,0 +1,152 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.dto.ComplaintCursor;
+import com.resolveit.grievancemanagement.dto.ComplaintDelta;
+import com.resolveit.grievancemanagement.repository.ComplaintTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Delta sync for the complaint lists: what changed since a client's last sync.
+ *
+ * Changes are read in (updatedAt, id) order, so every write path must advance
+ * {@code updatedAt}. Complaints that leave an officer's list are recorded as tombstones by
+ * the reassignment paths through {@link #recordRemoved}; citizen and admin lists only ever
+ * grow, so they have none. Tombstones are kept for {@code tombstone-retention-days}; older
+ * cursors get {@code resyncRequired} instead of an incomplete delta.
+ *
+ * {@code updatedAt} is stamped before commit, so a slow transaction can become visible with
+ * a timestamp behind a cursor already handed out. The final cursor of a sync therefore never
+ * runs past {@code settle-ms} before now; the overlap is re-sent and applied idempotently.
+ */
+@Service
+public class ComplaintDeltaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintDeltaService.class);
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private static final String INSERT_TOMBSTONE_SQL =
+            "INSERT INTO complaint_tombstones (complaint_id, user_id, removed_at) VALUES (?, ?, ?)";
+
+    private final ComplaintTombstoneRepository tombstoneRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${resolveit.delta.tombstone-retention-days:30}")
+    private int retentionDays;
+
+    @Value("${resolveit.delta.settle-ms:5000}")
+    private long settleMs;
+
+    public ComplaintDeltaService(ComplaintTombstoneRepository tombstoneRepository, JdbcTemplate jdbcTemplate) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Keyset read of the complaints in one list changed after (afterUpdatedAt, afterId),
+     * in (updatedAt, id) order; both are null for the initial sync.
+     */
+    @FunctionalInterface
+    public interface ChangeQuery<S> {
+        List<S> fetch(LocalDateTime afterUpdatedAt, Long afterId, Pageable pageable);
+    }
+
+    /**
+     * Records that complaints left their previous officer's list; keyed by complaint id,
+     * valued by that officer's id. Joins the caller's transaction.
+     */
+    public void recordRemoved(Map<Long, Long> previousOfficers) {
+        if (previousOfficers.isEmpty()) {
+            return;
+        }
+        Timestamp removedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(previousOfficers.size());
+        previousOfficers.forEach((complaintId, officerId) -> rows.add(new Object[] { complaintId, officerId, removedAt }));
+        jdbcTemplate.batchUpdate(INSERT_TOMBSTONE_SQL, rows);
+    }
+
+    public void recordRemoved(Long complaintId, Long previousOfficerId) {
+        if (complaintId != null && previousOfficerId != null) {
+            recordRemoved(Map.of(complaintId, previousOfficerId));
+        }
+    }
+
+    /**
+     * One delta page. {@code officerId} selects the officer whose tombstones are reported,
+     * or null for lists nothing is removed from.
+     */
+    public <S, T> ComplaintDelta<T> changesSince(String since,
+                                                 Integer size,
+                                                 Long officerId,
+                                                 ChangeQuery<S> query,
+                                                 Function<S, ComplaintCursor> position,
+                                                 Function<S, T> mapper) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        ComplaintCursor after = ComplaintCursor.decode(since);
+        LocalDateTime now = LocalDateTime.now();
+        if (after != null && officerId != null && after.getTimestamp().isBefore(now.minusDays(retentionDays))) {
+            return ComplaintDelta.resync();
+        }
+
+        // One extra row tells whether another page exists without a COUNT query
+        List<S> rows = query.fetch(
+                after != null ? after.getTimestamp() : null,
+                after != null ? after.getId() : null,
+                PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<S> page = hasMore ? rows.subList(0, pageSize) : rows;
+        ComplaintCursor next = page.isEmpty() ? after : position.apply(page.get(page.size() - 1));
+
+        // Removals are reported up to the same point as the changes; an initial sync has nothing to remove
+        List<Long> removedIds = new ArrayList<>();
+        if (after != null && officerId != null) {
+            LocalDateTime until = hasMore ? next.getTimestamp() : null;
+            for (Object[] row : tombstoneRepository.findRemovedFromOfficer(officerId, after.getTimestamp(), until)) {
+                removedIds.add((Long) row[0]);
+                LocalDateTime removedAt = (LocalDateTime) row[1];
+                if (removedAt.isAfter(next.getTimestamp())) {
+                    next = new ComplaintCursor(removedAt, 0L);
+                }
+            }
+        }
+
+        if (!hasMore && next != null) {
+            LocalDateTime settled = now.minus(Duration.ofMillis(settleMs));
+            if (next.getTimestamp().isAfter(settled)) {
+                next = after != null && after.getTimestamp().isAfter(settled) ? after : new ComplaintCursor(settled, 0L);
+            }
+        }
+
+        List<T> items = new ArrayList<>(page.size());
+        for (S row : page) {
+            items.add(mapper.apply(row));
+        }
+        return new ComplaintDelta<>(items, removedIds, next != null ? next.encode() : null, hasMore);
+    }
+
+    @Scheduled(cron = "${resolveit.delta.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        if (purged > 0) {
+            logger.info("Purged {} complaint tombstones older than {} days", purged, retentionDays);
+        }
+    }
+}
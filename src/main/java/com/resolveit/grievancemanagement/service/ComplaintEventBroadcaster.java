@@ -0,0 +1,202 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.dto.ComplaintEvent;
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes {@link ComplaintEvent}s to Server-Sent Events subscribers.
+ *
+ * Admins receive every event; officers receive events for complaints assigned to them (or
+ * just taken from them); citizens receive events for their own complaints, except internal
+ * notes. Events are published by the service write paths and delivered after commit.
+ *
+ * An idle subscription is an async servlet request: it holds a socket and an emitter but
+ * no thread. Writes can block on slow clients, so they run on virtual threads. Each
+ * subscriber has its own queue, drained by at most one thread at a time, so a client gets
+ * events in publish order. A client that falls {@value #MAX_PENDING_EVENTS} events behind
+ * is disconnected; it reconnects and catches up through delta sync.
+ */
+@Service
+public class ComplaintEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintEventBroadcaster.class);
+
+    static final int MAX_PENDING_EVENTS = 256;
+
+    private final Set<Subscriber> admins = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<Subscriber>> byUser = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final MeterRegistry meterRegistry;
+
+    // Clients reconnect when the stream ends, so this only bounds how long a dead connection can linger
+    @Value("${resolveit.events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    public ComplaintEventBroadcaster(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("resolveit.events.subscribers", byUser,
+                        subscribers -> subscribers.values().stream().mapToInt(Set::size).sum())
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(UserPrincipal principal) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(principal.getId(), emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        // Flushes the response headers so the client sees the stream open; queued before
+        // the subscriber is visible to publishers, so it is always the first thing sent
+        enqueue(subscriber, SseEmitter.event().comment("connected"));
+        byUser.computeIfAbsent(subscriber.userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        if (principal.getRole() == User.Role.ADMIN) {
+            admins.add(subscriber);
+        }
+        return emitter;
+    }
+
+    public void publish(Complaint complaint, ComplaintEvent.Type type) {
+        publish(complaint, type, null);
+    }
+
+    /**
+     * @param previousOfficerId officer the complaint was just taken from, who is told about it once more
+     */
+    public void publish(Complaint complaint, ComplaintEvent.Type type, Long previousOfficerId) {
+        if (complaint == null || complaint.getId() == null) {
+            return;
+        }
+        ComplaintEvent event = new ComplaintEvent(type, complaint);
+        Long ownerId = complaint.getUser() != null ? complaint.getUser().getId() : null;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event, ownerId, previousOfficerId);
+                }
+            });
+        } else {
+            dispatch(event, ownerId, previousOfficerId);
+        }
+    }
+
+    // Keeps proxies from closing idle streams and weeds out clients that went away silently
+    @Scheduled(fixedDelayString = "${resolveit.events.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Set<Subscriber> subscribers : byUser.values()) {
+            for (Subscriber subscriber : subscribers) {
+                enqueue(subscriber, SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        byUser.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        sender.shutdownNow();
+    }
+
+    private void dispatch(ComplaintEvent event, Long ownerId, Long previousOfficerId) {
+        Set<Subscriber> recipients = new HashSet<>(admins);
+        addUser(recipients, event.getAssignedOfficerId());
+        addUser(recipients, previousOfficerId);
+        if (event.getType() != ComplaintEvent.Type.INTERNAL_NOTE) {
+            addUser(recipients, ownerId);
+        }
+        meterRegistry.counter("resolveit.events.published", "type", event.getType().name()).increment();
+        for (Subscriber subscriber : recipients) {
+            enqueue(subscriber, SseEmitter.event()
+                    .name("complaint")
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void addUser(Set<Subscriber> recipients, Long userId) {
+        if (userId != null) {
+            recipients.addAll(byUser.getOrDefault(userId, Set.of()));
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.pending.offer(event)) {
+            logger.debug("Dropping event subscriber {}: {} events behind", subscriber.userId, MAX_PENDING_EVENTS);
+            unsubscribe(subscriber);
+            subscriber.pending.clear();
+            subscriber.emitter.complete();
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.pending.poll()) != null) {
+                if (!send(subscriber, event)) {
+                    subscriber.pending.clear();
+                }
+            }
+            subscriber.draining.set(false);
+            // An event queued after the last poll but before the flag dropped would otherwise wait
+        } while (!subscriber.pending.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client disconnected or the emitter already completed
+            logger.debug("Dropping event subscriber {}: {}", subscriber.userId, e.getMessage());
+            unsubscribe(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        admins.remove(subscriber);
+        byUser.computeIfPresent(subscriber.userId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static final class Subscriber {
+        final Long userId;
+        final SseEmitter emitter;
+        final BlockingQueue<SseEmitter.SseEventBuilder> pending = new LinkedBlockingQueue<>(MAX_PENDING_EVENTS);
+        final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.resolveit.grievancemanagement.service;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signature of a complaint's title and description over word 3-shingles.
+ *
+ * The fraction of equal signature slots between two complaints estimates the Jaccard
+ * similarity of their shingle sets. Signatures are split into {@link #BANDS} bands of
+ * {@link #ROWS} slots for locality-sensitive bucketing; two texts share at least one band
+ * with high probability once their similarity is above roughly (1/BANDS)^(1/ROWS) = 0.5.
+ */
+public final class ComplaintFingerprint {
+
+    public static final int BANDS = 16;
+    public static final int ROWS = 4;
+    public static final int SIZE = BANDS * ROWS;
+
+    private static final int SHINGLE_WORDS = 3;
+
+    // Fixed seeds so signatures are comparable across restarts
+    private static final long[] SEEDS = new SplittableRandom(0x5EED_C0DEL).longs(SIZE).toArray();
+
+    private ComplaintFingerprint() {
+    }
+
+    /**
+     * Returns null when the text has no words to compare.
+     */
+    public static int[] signature(String title, String description) {
+        Set<Long> shingles = shingles((title != null ? title : "") + " " + (description != null ? description : ""));
+        if (shingles.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[SIZE];
+        long[] minimums = new long[SIZE];
+        Arrays.fill(minimums, Long.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < SIZE; i++) {
+                long hash = mix(shingle ^ SEEDS[i]);
+                if (hash < minimums[i]) {
+                    minimums[i] = hash;
+                }
+            }
+        }
+        for (int i = 0; i < SIZE; i++) {
+            signature[i] = (int) (minimums[i] ^ (minimums[i] >>> 32));
+        }
+        return signature;
+    }
+
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIZE;
+    }
+
+    /**
+     * Bucket key of one band; the band index is mixed in so equal rows in different bands don't collide.
+     */
+    public static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            key = key * 31 + signature[i];
+        }
+        return mix(key);
+    }
+
+    private static Set<Long> shingles(String text) {
+        String[] words = text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+");
+        Set<Long> shingles = new HashSet<>();
+        int count = 0;
+        long[] hashes = new long[words.length];
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                hashes[count++] = fnv(word);
+            }
+        }
+        if (count < SHINGLE_WORDS) {
+            // Too short for 3-shingles; fall back to single words
+            for (int i = 0; i < count; i++) {
+                shingles.add(hashes[i]);
+            }
+            return shingles;
+        }
+        for (int i = 0; i + SHINGLE_WORDS <= count; i++) {
+            long shingle = hashes[i];
+            for (int j = 1; j < SHINGLE_WORDS; j++) {
+                shingle = shingle * 0x100000001B3L + hashes[i + j];
+            }
+            shingles.add(shingle);
+        }
+        return shingles;
+    }
+
+    private static long fnv(String word) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            hash ^= word.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,56 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.ComplaintComment;
+import com.resolveit.grievancemanagement.entity.ComplaintStatusHistory;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener on complaints, comments and status history: marks the owning complaint
+ * for reindexing once the transaction commits, so the indexer never reads uncommitted rows.
+ */
+@Component
+public class ComplaintSearchIndexListener {
+
+    // Lazy: the search service depends on repositories, which are built after entity listeners
+    private final ObjectProvider<ComplaintSearchService> searchService;
+
+    public ComplaintSearchIndexListener(ObjectProvider<ComplaintSearchService> searchService) {
+        this.searchService = searchService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Long complaintId = null;
+        if (entity instanceof Complaint complaint) {
+            complaintId = complaint.getId();
+        } else if (entity instanceof ComplaintComment comment && comment.getComplaint() != null) {
+            complaintId = comment.getComplaint().getId();
+        } else if (entity instanceof ComplaintStatusHistory history && history.getComplaint() != null) {
+            complaintId = history.getComplaint().getId();
+        }
+        if (complaintId == null) {
+            return;
+        }
+
+        Long id = complaintId;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    searchService.getObject().markDirty(id);
+                }
+            });
+        } else {
+            searchService.getObject().markDirty(id);
+        }
+    }
+}
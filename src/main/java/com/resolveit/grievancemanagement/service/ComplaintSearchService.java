@@ -0,0 +1,407 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.dto.AdminComplaintFilter;
+import com.resolveit.grievancemanagement.dto.ComplaintSearchResponse;
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.repository.ComplaintCommentRepository;
+import com.resolveit.grievancemanagement.repository.ComplaintRepository;
+import com.resolveit.grievancemanagement.repository.ComplaintStatusHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Embedded Lucene index over complaint titles, descriptions, comments and history comments.
+ *
+ * Writes only mark a complaint dirty (see {@link ComplaintSearchIndexListener}); a short
+ * scheduled drain reloads the dirty complaints, replaces their documents and reopens the
+ * near-real-time searcher, so changes are searchable within about a second. Hits are served
+ * from stored fields, so a search does not touch the database.
+ */
+@Service
+public class ComplaintSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintSearchService.class);
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_COMMENTS = "comments";
+    private static final String FIELD_HISTORY = "history";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_CATEGORY = "category";
+    private static final String FIELD_PRIORITY = "priority";
+    private static final String FIELD_OFFICER = "officerId";
+    private static final String FIELD_CREATED_AT = "createdAt";
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ComplaintRepository complaintRepository;
+    private final ComplaintCommentRepository commentRepository;
+    private final ComplaintStatusHistoryRepository statusHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> dirtyIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor();
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final Map<String, Float> fieldWeights = Map.of(
+            FIELD_TITLE, 3.0f,
+            FIELD_DESCRIPTION, 1.5f,
+            FIELD_COMMENTS, 1.0f,
+            FIELD_HISTORY, 1.0f);
+
+    // Empty keeps the index in memory; it is then rebuilt on every start
+    @Value("${resolveit.search.index-dir:data/search-index}")
+    private String indexDir;
+
+    @Value("${resolveit.search.batch-size:500}")
+    private int batchSize;
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    public ComplaintSearchService(ComplaintRepository complaintRepository,
+                                  ComplaintCommentRepository commentRepository,
+                                  ComplaintStatusHistoryRepository statusHistoryRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.complaintRepository = complaintRepository;
+        this.commentRepository = commentRepository;
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = indexDir == null || indexDir.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(indexDir));
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        rebuildExecutor.shutdownNow();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * First start (or a wiped index directory): index everything in the background.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (writer.getDocStats().numDocs == 0 && complaintRepository.count() > 0) {
+            rebuildAsync();
+        }
+    }
+
+    public void markDirty(Long complaintId) {
+        if (complaintId != null) {
+            dirtyIds.add(complaintId);
+        }
+    }
+
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        rebuildExecutor.submit(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                logger.error("Search index rebuild failed", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${resolveit.search.refresh-interval-ms:1000}")
+    public void indexDirty() {
+        if (dirtyIds.isEmpty()) {
+            return;
+        }
+        List<Long> batch = new ArrayList<>();
+        Iterator<Long> iterator = dirtyIds.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+            if (batch.size() == batchSize || !iterator.hasNext()) {
+                try {
+                    reindex(batch);
+                } catch (RuntimeException | IOException e) {
+                    // Put them back so the next run retries
+                    dirtyIds.addAll(batch);
+                    logger.warn("Search indexing failed for {} complaints: {}", batch.size(), e.getMessage());
+                    return;
+                }
+                batch = new ArrayList<>();
+            }
+        }
+        refresh();
+    }
+
+    private void reindex(List<Long> ids) throws IOException {
+        List<Document> documents = transactionTemplate.execute(status ->
+                toDocuments(complaintRepository.findAllById(ids)));
+        Set<Long> found = new HashSet<>();
+        for (Document document : documents) {
+            String id = document.get(FIELD_ID);
+            writer.updateDocument(new Term(FIELD_ID, id), document);
+            found.add(Long.valueOf(id));
+        }
+        for (Long id : ids) {
+            if (!found.contains(id)) {
+                writer.deleteDocuments(new Term(FIELD_ID, String.valueOf(id)));
+            }
+        }
+    }
+
+    private void rebuild() throws IOException {
+        long started = System.currentTimeMillis();
+        writer.deleteAll();
+        long afterId = 0L;
+        int indexed = 0;
+        while (true) {
+            long cursor = afterId;
+            List<Document> documents = transactionTemplate.execute(status -> toDocuments(
+                    complaintRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, batchSize))));
+            if (documents.isEmpty()) {
+                break;
+            }
+            // Update rather than add: the dirty drain may already have written some of these
+            for (Document document : documents) {
+                writer.updateDocument(new Term(FIELD_ID, document.get(FIELD_ID)), document);
+            }
+            indexed += documents.size();
+            afterId = Long.parseLong(documents.get(documents.size() - 1).get(FIELD_ID));
+        }
+        writer.commit();
+        refresh();
+        logger.info("Search index rebuilt: {} complaints in {} ms", indexed, System.currentTimeMillis() - started);
+    }
+
+    private void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Commits periodically so a restart does not need a full rebuild; searches only need
+     * the refresh done after each drain.
+     */
+    @Scheduled(fixedDelayString = "${resolveit.search.commit-interval-ms:60000}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    private List<Document> toDocuments(List<Complaint> complaints) {
+        if (complaints.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = complaints.stream().map(Complaint::getId).toList();
+        Map<Long, List<String>> comments = groupText(commentRepository.findCommentTextByComplaintIds(ids));
+        Map<Long, List<String>> history = groupText(statusHistoryRepository.findCommentTextByComplaintIds(ids));
+
+        List<Document> documents = new ArrayList<>(complaints.size());
+        for (Complaint complaint : complaints) {
+            Document document = new Document();
+            document.add(new StringField(FIELD_ID, String.valueOf(complaint.getId()), Field.Store.YES));
+            document.add(new TextField(FIELD_TITLE, nullToEmpty(complaint.getTitle()), Field.Store.YES));
+            document.add(new TextField(FIELD_DESCRIPTION, nullToEmpty(complaint.getDescription()), Field.Store.NO));
+            for (String text : comments.getOrDefault(complaint.getId(), List.of())) {
+                document.add(new TextField(FIELD_COMMENTS, text, Field.Store.NO));
+            }
+            for (String text : history.getOrDefault(complaint.getId(), List.of())) {
+                document.add(new TextField(FIELD_HISTORY, text, Field.Store.NO));
+            }
+            document.add(new StringField(FIELD_STATUS, complaint.getStatus().name(), Field.Store.YES));
+            document.add(new StringField(FIELD_CATEGORY, complaint.getCategory().name(), Field.Store.YES));
+            document.add(new StringField(FIELD_PRIORITY, complaint.getPriority().name(), Field.Store.YES));
+            if (complaint.getAssignedOfficer() != null) {
+                // Reading the id does not initialize the lazy proxy
+                document.add(new StringField(FIELD_OFFICER,
+                        String.valueOf(complaint.getAssignedOfficer().getId()), Field.Store.YES));
+            }
+            if (complaint.getCreatedAt() != null) {
+                long createdAt = toEpochMillis(complaint.getCreatedAt());
+                document.add(new LongPoint(FIELD_CREATED_AT, createdAt));
+                document.add(new StoredField(FIELD_CREATED_AT, createdAt));
+            }
+            documents.add(document);
+        }
+        return documents;
+    }
+
+    private Map<Long, List<String>> groupText(List<Object[]> rows) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                grouped.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+        return grouped;
+    }
+
+    /**
+     * Ranked search. {@code query} uses simple query syntax: terms are ANDed, and
+     * {@code "phrases"}, {@code -exclusions}, {@code a | b} and {@code prefix*} are supported.
+     */
+    public ComplaintSearchResponse search(String query, AdminComplaintFilter filter, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        int pageSize = size == null || size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        int pageNumber = page == null || page < 0 ? 0 : page;
+
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, fieldWeights);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query textQuery = parser.parse(query);
+        if (textQuery == null) {
+            // Only stop words or operators
+            return new ComplaintSearchResponse(0, List.of());
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(textQuery, BooleanClause.Occur.MUST);
+        addFilters(builder, filter);
+
+        IndexSearcher searcher;
+        try {
+            searcher = searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            int offset = pageNumber * pageSize;
+            TopDocs topDocs = searcher.search(builder.build(), offset + pageSize);
+            List<ComplaintSearchResponse.Hit> hits = new ArrayList<>();
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = offset; i < scoreDocs.length; i++) {
+                hits.add(toHit(searcher.storedFields().document(scoreDocs[i].doc), scoreDocs[i].score));
+            }
+            return new ComplaintSearchResponse(topDocs.totalHits.value, hits);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            try {
+                searcherManager.release(searcher);
+            } catch (IOException e) {
+                logger.warn("Failed to release index searcher: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void addFilters(BooleanQuery.Builder builder, AdminComplaintFilter filter) {
+        if (filter == null) {
+            return;
+        }
+        if (filter.getStatus() != null) {
+            builder.add(new TermQuery(new Term(FIELD_STATUS, filter.getStatus().name())), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getCategory() != null) {
+            builder.add(new TermQuery(new Term(FIELD_CATEGORY, filter.getCategory().name())), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getPriority() != null) {
+            builder.add(new TermQuery(new Term(FIELD_PRIORITY, filter.getPriority().name())), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getOfficerId() != null) {
+            builder.add(new TermQuery(new Term(FIELD_OFFICER, String.valueOf(filter.getOfficerId()))), BooleanClause.Occur.FILTER);
+        }
+        if (filter.getFrom() != null || filter.getTo() != null) {
+            long from = filter.getFrom() != null ? toEpochMillis(filter.getFrom()) : Long.MIN_VALUE;
+            long to = filter.getTo() != null ? toEpochMillis(filter.getTo()) : Long.MAX_VALUE;
+            builder.add(LongPoint.newRangeQuery(FIELD_CREATED_AT, from, to), BooleanClause.Occur.FILTER);
+        }
+    }
+
+    private ComplaintSearchResponse.Hit toHit(Document document, float score) {
+        ComplaintSearchResponse.Hit hit = new ComplaintSearchResponse.Hit();
+        hit.setId(Long.valueOf(document.get(FIELD_ID)));
+        hit.setTitle(document.get(FIELD_TITLE));
+        hit.setStatus(Complaint.Status.valueOf(document.get(FIELD_STATUS)));
+        hit.setCategory(Complaint.Category.valueOf(document.get(FIELD_CATEGORY)));
+        hit.setPriority(Complaint.Priority.valueOf(document.get(FIELD_PRIORITY)));
+        String officerId = document.get(FIELD_OFFICER);
+        hit.setAssignedOfficerId(officerId != null ? Long.valueOf(officerId) : null);
+        IndexableField createdAt = document.getField(FIELD_CREATED_AT);
+        if (createdAt != null) {
+            hit.setCreatedAt(LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(createdAt.numericValue().longValue()), ZoneId.systemDefault()));
+        }
+        hit.setScore(score);
+        return hit;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -1,44 +1,80 @@
 package com.resolveit.grievancemanagement.service;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.resolveit.grievancemanagement.dto.ComplaintCursor;
+import com.resolveit.grievancemanagement.dto.ComplaintDelta;
+import com.resolveit.grievancemanagement.dto.ComplaintEvent;
+import com.resolveit.grievancemanagement.dto.ComplaintListItem;
 import com.resolveit.grievancemanagement.dto.ComplaintRequest;
 import com.resolveit.grievancemanagement.dto.ComplaintRatingRequest;
+import com.resolveit.grievancemanagement.dto.CursorPage;
 import com.resolveit.grievancemanagement.dto.UserComplaintResponse;
 import com.resolveit.grievancemanagement.entity.Complaint;
 import com.resolveit.grievancemanagement.entity.ComplaintStatusHistory;
 import com.resolveit.grievancemanagement.entity.User;
 import com.resolveit.grievancemanagement.repository.ComplaintRepository;
 import com.resolveit.grievancemanagement.repository.ComplaintStatusHistoryRepository;
-import com.resolveit.grievancemanagement.repository.UserRepository;
+import com.resolveit.grievancemanagement.security.CurrentUserResolver;
 
 @Service
 public class ComplaintService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ComplaintRepository complaintRepository;
     private final ComplaintStatusHistoryRepository statusHistoryRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
+    private final ComplaintStatsService complaintStatsService;
+    private final DuplicateComplaintDetector duplicateDetector;
+    private final ComplaintEventBroadcaster eventBroadcaster;
+    private final ComplaintDeltaService deltaService;
+    private final ComplaintVersions complaintVersions;
 
     public ComplaintService(ComplaintRepository complaintRepository,
                             ComplaintStatusHistoryRepository statusHistoryRepository,
-                            UserRepository userRepository) {
+                            CurrentUserResolver currentUserResolver,
+                            ComplaintStatsService complaintStatsService,
+                            DuplicateComplaintDetector duplicateDetector,
+                            ComplaintEventBroadcaster eventBroadcaster,
+                            ComplaintDeltaService deltaService,
+                            ComplaintVersions complaintVersions) {
         this.complaintRepository = complaintRepository;
         this.statusHistoryRepository = statusHistoryRepository;
-        this.userRepository = userRepository;
+        this.currentUserResolver = currentUserResolver;
+        this.complaintStatsService = complaintStatsService;
+        this.duplicateDetector = duplicateDetector;
+        this.eventBroadcaster = eventBroadcaster;
+        this.deltaService = deltaService;
+        this.complaintVersions = complaintVersions;
+    }
+
+    /**
+     * Links the new complaint to the closest open complaint if their text is near-identical.
+     * Admins can then merge it or clear the flag.
+     */
+    private void flagIfDuplicate(Complaint complaint) {
+        DuplicateComplaintDetector.Match match =
+                duplicateDetector.findDuplicate(complaint.getTitle(), complaint.getDescription());
+        if (match != null) {
+            complaint.setDuplicateOfId(match.getComplaintId());
+            complaint.setDuplicateSimilarity(match.getSimilarity());
+        }
     }
 
     private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String name = auth.getName();
-        return userRepository.findByUsernameOrEmail(name, name)
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
+        return currentUserResolver.getUser();
     }
 
     @Transactional
@@ -53,8 +89,12 @@ public class ComplaintService {
         complaint.setIsAnonymous(Boolean.FALSE);
         complaint.setUser(current);
         complaint.setDueDate(request.getDueDate());
+        flagIfDuplicate(complaint);
         Complaint saved = complaintRepository.save(complaint);
+        complaintStatsService.recordCreated(saved);
 
+        // The citizen sees this entry; a duplicate match may be another citizen's ticket, so
+        // it is left to duplicateOfId on the admin view
         ComplaintStatusHistory history = new ComplaintStatusHistory(
                 Complaint.Status.NEW,
                 "Complaint created",
@@ -62,6 +102,8 @@ public class ComplaintService {
                 current
         );
         statusHistoryRepository.save(history);
+        complaintVersions.recordChange(saved, null);
+        eventBroadcaster.publish(saved, ComplaintEvent.Type.CREATED);
         return saved;
     }
 
@@ -77,14 +119,82 @@ public class ComplaintService {
         complaint.setAnonymousEmail(request.getAnonymousEmail());
         complaint.setAnonymousPhone(request.getAnonymousPhone());
         complaint.setDueDate(request.getDueDate());
+        flagIfDuplicate(complaint);
         Complaint saved = complaintRepository.save(complaint);
+        complaintStatsService.recordCreated(saved);
+        complaintVersions.recordChange(saved, null);
+        eventBroadcaster.publish(saved, ComplaintEvent.Type.CREATED);
         return saved;
     }
 
     @Transactional(readOnly = true)
-    public List<Complaint> listMyComplaints() {
-        User current = getCurrentUser();
-        return complaintRepository.findByUserWithOfficer(current);
+    public CursorPage<ComplaintListItem> listMyComplaints(String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        ComplaintCursor after = ComplaintCursor.decode(cursor);
+
+        // One extra row tells whether another page exists without a COUNT query
+        List<ComplaintListItem> rows = complaintRepository.findListItemsByUser(
+                currentUserResolver.getPrincipal().getId(),
+                after != null ? after.getTimestamp() : null,
+                after != null ? after.getId() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ComplaintListItem> items = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            ComplaintListItem last = items.get(items.size() - 1);
+            nextCursor = new ComplaintCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * The citizen's complaints created or changed since the {@code since} cursor. Complaints
+     * never leave their owner's list, so the delta carries no removals.
+     */
+    @Transactional(readOnly = true)
+    public ComplaintDelta<ComplaintListItem> listMyChanges(String since, Integer size) {
+        Long userId = currentUserResolver.getPrincipal().getId();
+        return deltaService.changesSince(since, size, null,
+                (afterUpdatedAt, afterId, pageable) ->
+                        complaintRepository.findChangedListItemsByUser(userId, afterUpdatedAt, afterId, pageable),
+                item -> new ComplaintCursor(item.getUpdatedAt(), item.getId()),
+                Function.identity());
+    }
+
+    /**
+     * Totals for the citizen dashboard, which only loads the first page of the list.
+     */
+    @Transactional(readOnly = true)
+    public Map<Complaint.Status, Long> countMyComplaintsByStatus() {
+        Map<Complaint.Status, Long> counts = new EnumMap<>(Complaint.Status.class);
+        for (Complaint.Status status : Complaint.Status.values()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : complaintRepository.countByUserGroupedByStatus(currentUserResolver.getPrincipal().getId())) {
+            counts.put((Complaint.Status) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    /**
+     * Weak ETag covering the citizen's list and summary.
+     */
+    public String myComplaintsETag() {
+        return complaintVersions.citizenComplaintsETag(currentUserResolver.getPrincipal().getId());
+    }
+
+    /**
+     * Strong ETag of one of the citizen's complaints, checked for ownership without loading it.
+     */
+    @Transactional(readOnly = true)
+    public String getMyComplaintETag(Long id) {
+        ComplaintVersions.Version version = complaintVersions.complaint(id);
+        if (version.getOwnerId() == null || !version.getOwnerId().equals(currentUserResolver.getPrincipal().getId())) {
+            throw new IllegalArgumentException("Unauthorized");
+        }
+        return version.getETag();
     }
 
     @Transactional(readOnly = true)
@@ -163,12 +273,17 @@ public class ComplaintService {
         if (c.getStatus() != Complaint.Status.NEW && c.getStatus() != Complaint.Status.UNDER_REVIEW) {
             throw new IllegalStateException("Cannot edit after processing started");
         }
+        ComplaintStatsService.StatKey before = complaintStatsService.keyOf(c);
         c.setTitle(request.getTitle());
         c.setDescription(request.getDescription());
         c.setCategory(request.getCategory());
         c.setPriority(request.getPriority());
         c.setDueDate(request.getDueDate());
-        return complaintRepository.save(c);
+        Complaint saved = complaintRepository.save(c);
+        complaintStatsService.recordChanged(before, saved);
+        complaintVersions.recordChange(saved, null);
+        eventBroadcaster.publish(saved, ComplaintEvent.Type.UPDATED);
+        return saved;
     }
 
     @Transactional
@@ -194,6 +309,8 @@ public class ComplaintService {
         complaint.setOfficerFeedback(request.getFeedback());
 
         Complaint saved = complaintRepository.save(complaint);
+        complaintVersions.recordChange(saved, null);
+        eventBroadcaster.publish(saved, ComplaintEvent.Type.UPDATED);
         return mapToUserResponse(saved);
     }
 
@@ -211,8 +328,12 @@ public class ComplaintService {
         if (c.getStatus() != Complaint.Status.NEW && c.getStatus() != Complaint.Status.UNDER_REVIEW) {
             throw new IllegalStateException("Cannot withdraw after processing started");
         }
+        ComplaintStatsService.StatKey before = complaintStatsService.keyOf(c);
         c.setStatus(Complaint.Status.CLOSED);
         complaintRepository.save(c);
+        complaintStatsService.recordChanged(before, c);
+        complaintVersions.recordChange(c, null);
+        eventBroadcaster.publish(c, ComplaintEvent.Type.STATUS_CHANGED);
     }
 }
 
@@ -0,0 +1,185 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.ComplaintStat;
+import com.resolveit.grievancemanagement.repository.ComplaintStatRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the complaint_stats rollup in step with the complaints table.
+ *
+ * Every complaint counts once, in the group matching its creation day and current
+ * category, priority, status and officer. Write paths take a {@link StatKey} snapshot
+ * before mutating a complaint and report it afterwards, so the row moves between groups
+ * inside the caller's transaction.
+ *
+ * Increments are a single upsert on the group's unique key, so two transactions creating
+ * the same group concurrently add to one row instead of inserting two. Unassigned groups
+ * use officer id {@link ComplaintStat#NO_OFFICER} rather than null, which the unique key
+ * would not compare.
+ */
+@Service
+public class ComplaintStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintStatsService.class);
+
+    private static final String MYSQL_UPSERT_SQL =
+            "INSERT INTO complaint_stats (stat_day, category, priority, status, officer_id, complaint_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE complaint_count = complaint_count + VALUES(complaint_count)";
+
+    private static final String MERGE_UPSERT_SQL =
+            "MERGE INTO complaint_stats s " +
+            "USING (SELECT CAST(? AS DATE) AS stat_day, CAST(? AS VARCHAR(32)) AS category, " +
+            "CAST(? AS VARCHAR(32)) AS priority, CAST(? AS VARCHAR(32)) AS status, " +
+            "CAST(? AS BIGINT) AS officer_id, CAST(? AS BIGINT) AS delta) v " +
+            "ON (s.stat_day = v.stat_day AND s.category = v.category AND s.priority = v.priority " +
+            "AND s.status = v.status AND s.officer_id = v.officer_id) " +
+            "WHEN MATCHED THEN UPDATE SET complaint_count = s.complaint_count + v.delta " +
+            "WHEN NOT MATCHED THEN INSERT (stat_day, category, priority, status, officer_id, complaint_count) " +
+            "VALUES (v.stat_day, v.category, v.priority, v.status, v.officer_id, v.delta)";
+
+    private final ComplaintStatRepository statRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String upsertSql;
+
+    public ComplaintStatsService(ComplaintStatRepository statRepository, JdbcTemplate jdbcTemplate) {
+        this.statRepository = statRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public StatKey keyOf(Complaint complaint) {
+        return new StatKey(
+                complaint.getCreatedAt() != null ? complaint.getCreatedAt().toLocalDate() : null,
+                complaint.getCategory(),
+                complaint.getPriority(),
+                complaint.getStatus(),
+                complaint.getAssignedOfficer() != null ? complaint.getAssignedOfficer().getId() : ComplaintStat.NO_OFFICER
+        );
+    }
+
+    @Transactional
+    public void recordCreated(Complaint complaint) {
+        adjust(keyOf(complaint), 1);
+    }
+
+    @Transactional
+    public void recordChanged(StatKey before, Complaint after) {
+        StatKey current = keyOf(after);
+        if (before.equals(current)) {
+            return;
+        }
+        adjust(before, -1);
+        adjust(current, 1);
+    }
+
+    /**
+     * Batch form of {@link #recordChanged}: moves are netted per group first, so each
+     * affected group is written once however many complaints moved.
+     */
+    @Transactional
+    public void recordChanged(List<StatKey> before, List<Complaint> after) {
+        Map<StatKey, Long> deltas = new HashMap<>();
+        for (int i = 0; i < before.size(); i++) {
+            StatKey current = keyOf(after.get(i));
+            if (!before.get(i).equals(current)) {
+                deltas.merge(before.get(i), -1L, Long::sum);
+                deltas.merge(current, 1L, Long::sum);
+            }
+        }
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                adjust(key, delta);
+            }
+        });
+    }
+
+    /**
+     * Throws away the rollup and recomputes it from complaints. Used for backfill
+     * and to repair drift; returns the number of groups written.
+     */
+    @Transactional
+    public int rebuild() {
+        statRepository.deleteAllStats();
+        int groups = statRepository.rebuildFromComplaints();
+        logger.info("Rebuilt complaint_stats rollup with {} groups", groups);
+        return groups;
+    }
+
+    private void adjust(StatKey key, long delta) {
+        if (key.day == null || key.category == null || key.priority == null || key.status == null) {
+            return;
+        }
+        if (delta < 0) {
+            // A group being decremented already has its row; nothing to create
+            statRepository.adjustCount(key.day, key.category, key.priority, key.status, key.officerId, delta);
+            return;
+        }
+        jdbcTemplate.update(upsertSql(), Date.valueOf(key.day), key.category.name(), key.priority.name(),
+                key.status.name(), key.officerId, delta);
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            DatabaseDriver driver = DatabaseDriver.fromProductName(product);
+            sql = driver == DatabaseDriver.MYSQL || driver == DatabaseDriver.MARIADB ? MYSQL_UPSERT_SQL : MERGE_UPSERT_SQL;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    /**
+     * The rollup group a complaint belongs to.
+     */
+    public static final class StatKey {
+
+        private final LocalDate day;
+        private final Complaint.Category category;
+        private final Complaint.Priority priority;
+        private final Complaint.Status status;
+        private final Long officerId;
+
+        StatKey(LocalDate day, Complaint.Category category, Complaint.Priority priority,
+                Complaint.Status status, Long officerId) {
+            this.day = day;
+            this.category = category;
+            this.priority = priority;
+            this.status = status;
+            this.officerId = officerId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            StatKey that = (StatKey) o;
+            return Objects.equals(day, that.day)
+                    && category == that.category
+                    && priority == that.priority
+                    && status == that.status
+                    && Objects.equals(officerId, that.officerId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(day, category, priority, status, officerId);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.repository.ComplaintRepository;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * ETags for conditional GETs on the complaint endpoints.
+ *
+ * A complaint's strong ETag is read with one small query (updatedAt plus the count and
+ * highest id of its history rows), so a matching {@code If-None-Match} is answered before
+ * the complaint and its history are loaded.
+ *
+ * List ETags are weak and come from complaint_list_versions, one counter per scope: all
+ * complaints, a citizen's, an officer's. Write paths call {@link #recordChange} and the
+ * counters of every scope the complaint was or is in are bumped just before the write
+ * commits, so the new version becomes visible together with the data and any instance
+ * answers the same way. Read the list ETag before loading the list: a change in between
+ * only costs a refetch.
+ */
+@Component
+public class ComplaintVersions {
+
+    private static final String ALL_SCOPE = "a";
+
+    private static final String MYSQL_BUMP_SQL =
+            "INSERT INTO complaint_list_versions (scope, version) VALUES (?, 1) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1";
+
+    private static final String MERGE_BUMP_SQL =
+            "MERGE INTO complaint_list_versions v " +
+            "USING (SELECT CAST(? AS VARCHAR(32)) AS scope) s ON (v.scope = s.scope) " +
+            "WHEN MATCHED THEN UPDATE SET version = v.version + 1 " +
+            "WHEN NOT MATCHED THEN INSERT (scope, version) VALUES (s.scope, 1)";
+
+    private static final String SELECT_VERSION_SQL =
+            "SELECT version FROM complaint_list_versions WHERE scope = ?";
+
+    private final ComplaintRepository complaintRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile String bumpSql;
+
+    public ComplaintVersions(ComplaintRepository complaintRepository, JdbcTemplate jdbcTemplate) {
+        this.complaintRepository = complaintRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Version of one complaint, with the owner and officer for access checks.
+     */
+    public Version complaint(Long complaintId) {
+        List<Object[]> rows = complaintRepository.findVersion(complaintId);
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("Complaint not found");
+        }
+        Object[] row = rows.get(0);
+        String eTag = "\"" + complaintId
+                + "-" + micros((LocalDateTime) row[0])
+                + "-" + row[3]
+                + "-" + (row[4] != null ? row[4] : 0) + "\"";
+        return new Version((Long) row[1], (Long) row[2], eTag);
+    }
+
+    public String allComplaintsETag() {
+        return listETag(ALL_SCOPE);
+    }
+
+    /**
+     * List ETag for one citizen's complaints; the user id keeps a cached list from matching
+     * after a different user signs in on the same client.
+     */
+    public String citizenComplaintsETag(Long userId) {
+        return listETag(citizenScope(userId));
+    }
+
+    public String officerComplaintsETag(Long officerId) {
+        return listETag(officerScope(officerId));
+    }
+
+    /**
+     * Marks the lists holding {@code complaint} as changed: all complaints, its citizen's, its
+     * officer's, and {@code previousOfficerId}'s when it was just taken from that officer.
+     */
+    public void recordChange(Complaint complaint, Long previousOfficerId) {
+        Set<String> scopes = new TreeSet<>();
+        scopes.add(ALL_SCOPE);
+        if (complaint.getUser() != null) {
+            scopes.add(citizenScope(complaint.getUser().getId()));
+        }
+        if (complaint.getAssignedOfficer() != null) {
+            scopes.add(officerScope(complaint.getAssignedOfficer().getId()));
+        }
+        if (previousOfficerId != null) {
+            scopes.add(officerScope(previousOfficerId));
+        }
+        bump(scopes);
+    }
+
+    // Scopes are collected per transaction and written once, just before commit: each counter
+    // row stays locked only while the transaction commits, and in a fixed order, so
+    // concurrent writers can't deadlock on them.
+    private void bump(Set<String> scopes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(scopes);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<String> bound = new TreeSet<>();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResource(ComplaintVersions.this);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(ComplaintVersions.this, bound);
+                }
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(bound);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ComplaintVersions.this);
+                }
+            });
+            pending = bound;
+        }
+        pending.addAll(scopes);
+    }
+
+    private void write(Set<String> scopes) {
+        if (scopes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(bumpSql(), scopes.stream().map(scope -> new Object[] { scope }).toList());
+    }
+
+    private String listETag(String scope) {
+        List<Long> versions = jdbcTemplate.queryForList(SELECT_VERSION_SQL, Long.class, scope);
+        return "W/\"" + scope + "-" + (versions.isEmpty() ? 0 : versions.get(0)) + "\"";
+    }
+
+    private String bumpSql() {
+        String sql = bumpSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            DatabaseDriver driver = DatabaseDriver.fromProductName(product);
+            sql = driver == DatabaseDriver.MYSQL || driver == DatabaseDriver.MARIADB ? MYSQL_BUMP_SQL : MERGE_BUMP_SQL;
+            bumpSql = sql;
+        }
+        return sql;
+    }
+
+    private static String citizenScope(Long userId) {
+        return "u" + userId;
+    }
+
+    private static String officerScope(Long officerId) {
+        return "o" + officerId;
+    }
+
+    private static long micros(LocalDateTime time) {
+        return time != null ? time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000 : 0;
+    }
+
+    public static final class Version {
+        private final Long ownerId;
+        private final Long officerId;
+        private final String eTag;
+
+        Version(Long ownerId, Long officerId, String eTag) {
+            this.ownerId = ownerId;
+            this.officerId = officerId;
+            this.eTag = eTag;
+        }
+
+        public Long getOwnerId() {
+            return ownerId;
+        }
+
+        public Long getOfficerId() {
+            return officerId;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+    }
+}
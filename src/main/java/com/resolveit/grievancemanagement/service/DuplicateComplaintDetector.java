@@ -0,0 +1,175 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.repository.ComplaintRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory LSH index of open complaints, keyed by {@link ComplaintFingerprint} bands.
+ *
+ * A lookup hashes the new text's 16 bands, unions the matching buckets and scores only
+ * those candidates, so its cost depends on how many near-duplicates exist rather than on
+ * the number of open complaints. Complaints enter the index when created or reopened and
+ * leave it when resolved, closed or flagged as a duplicate themselves (new duplicates then
+ * match the original). See {@link DuplicateComplaintIndexListener}.
+ */
+@Service
+public class DuplicateComplaintDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateComplaintDetector.class);
+
+    public static final List<Complaint.Status> OPEN_STATUSES = List.of(
+            Complaint.Status.NEW, Complaint.Status.UNDER_REVIEW,
+            Complaint.Status.IN_PROGRESS, Complaint.Status.ESCALATED);
+
+    private static final int LOAD_BATCH_SIZE = 2000;
+
+    private final ComplaintRepository complaintRepository;
+
+    private final Map<Long, int[]> signatures = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+
+    @Value("${resolveit.duplicates.enabled:true}")
+    private boolean enabled;
+
+    // Estimated Jaccard similarity of title+description shingles needed to flag a duplicate
+    @Value("${resolveit.duplicates.threshold:0.7}")
+    private double threshold;
+
+    public DuplicateComplaintDetector(ComplaintRepository complaintRepository) {
+        this.complaintRepository = complaintRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOpenComplaints() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        long afterId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = complaintRepository.findTextForDuplicateIndex(OPEN_STATUSES, afterId,
+                    PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (Object[] row : rows) {
+                index((Long) row[0], (String) row[1], (String) row[2]);
+            }
+            if (!rows.isEmpty()) {
+                afterId = (Long) rows.get(rows.size() - 1)[0];
+            }
+        } while (rows.size() == LOAD_BATCH_SIZE);
+        logger.info("Duplicate index loaded: {} open complaints in {} ms",
+                signatures.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Best-scoring open complaint at or above the threshold, or null.
+     */
+    public Match findDuplicate(String title, String description) {
+        if (!enabled) {
+            return null;
+        }
+        int[] signature = ComplaintFingerprint.signature(title, description);
+        if (signature == null) {
+            return null;
+        }
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < ComplaintFingerprint.BANDS; band++) {
+            Set<Long> bucket = buckets.get(ComplaintFingerprint.bandKey(signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+
+        Match best = null;
+        for (Long candidateId : candidates) {
+            int[] candidate = signatures.get(candidateId);
+            if (candidate == null) {
+                continue;
+            }
+            double similarity = ComplaintFingerprint.similarity(signature, candidate);
+            if (similarity >= threshold && (best == null || similarity > best.getSimilarity()
+                    || (similarity == best.getSimilarity() && candidateId < best.getComplaintId()))) {
+                best = new Match(candidateId, similarity);
+            }
+        }
+        return best;
+    }
+
+    public void index(Long complaintId, String title, String description) {
+        if (!enabled || complaintId == null) {
+            return;
+        }
+        int[] signature = ComplaintFingerprint.signature(title, description);
+        int[] previous = signature != null
+                ? signatures.put(complaintId, signature)
+                : signatures.remove(complaintId);
+        if (previous != null) {
+            removeFromBuckets(complaintId, previous);
+        }
+        if (signature != null) {
+            for (int band = 0; band < ComplaintFingerprint.BANDS; band++) {
+                // compute() rather than computeIfAbsent().add() so a concurrent removal can't drop the bucket under us
+                buckets.compute(ComplaintFingerprint.bandKey(signature, band), (key, bucket) -> {
+                    Set<Long> ids = bucket != null ? bucket : ConcurrentHashMap.newKeySet();
+                    ids.add(complaintId);
+                    return ids;
+                });
+            }
+        }
+    }
+
+    public void remove(Long complaintId) {
+        if (complaintId == null) {
+            return;
+        }
+        int[] previous = signatures.remove(complaintId);
+        if (previous != null) {
+            removeFromBuckets(complaintId, previous);
+        }
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    private void removeFromBuckets(Long complaintId, int[] signature) {
+        for (int band = 0; band < ComplaintFingerprint.BANDS; band++) {
+            buckets.computeIfPresent(ComplaintFingerprint.bandKey(signature, band), (key, bucket) -> {
+                bucket.remove(complaintId);
+                return bucket.isEmpty() ? null : bucket;
+            });
+        }
+    }
+
+    public static final class Match {
+
+        private final Long complaintId;
+        private final double similarity;
+
+        Match(Long complaintId, double similarity) {
+            this.complaintId = complaintId;
+            this.similarity = similarity;
+        }
+
+        public Long getComplaintId() {
+            return complaintId;
+        }
+
+        public double getSimilarity() {
+            return similarity;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener on {@link Complaint}: keeps the duplicate index in step with committed
+ * changes. Open, unflagged complaints are (re)indexed; anything else is removed.
+ */
+@Component
+public class DuplicateComplaintIndexListener {
+
+    private final ObjectProvider<DuplicateComplaintDetector> detector;
+
+    public DuplicateComplaintIndexListener(ObjectProvider<DuplicateComplaintDetector> detector) {
+        this.detector = detector;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Complaint complaint) {
+        Long id = complaint.getId();
+        if (complaint.getDuplicateOfId() == null && DuplicateComplaintDetector.OPEN_STATUSES.contains(complaint.getStatus())) {
+            String title = complaint.getTitle();
+            String description = complaint.getDescription();
+            afterCommit(() -> detector.getObject().index(id, title, description));
+        } else {
+            afterCommit(() -> detector.getObject().remove(id));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Complaint complaint) {
+        Long id = complaint.getId();
+        afterCommit(() -> detector.getObject().remove(id));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,30 +1,59 @@
 package com.resolveit.grievancemanagement.service;
 
+import com.resolveit.grievancemanagement.dto.ComplaintEvent;
 import com.resolveit.grievancemanagement.entity.Complaint;
 import com.resolveit.grievancemanagement.entity.ComplaintStatusHistory;
 import com.resolveit.grievancemanagement.entity.User;
 import com.resolveit.grievancemanagement.repository.ComplaintRepository;
 import com.resolveit.grievancemanagement.repository.ComplaintStatusHistoryRepository;
 import com.resolveit.grievancemanagement.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.function.LongFunction;
 
 @Service
 public class EscalationService {
 
     private static final Logger logger = LoggerFactory.getLogger(EscalationService.class);
+
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO complaint_status_history " +
+            "(status, comment, complaint_id, changed_by, changed_at, is_internal_note) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
     
     private final ComplaintRepository complaintRepository;
     private final UserRepository userRepository;
     private final ComplaintStatusHistoryRepository statusHistoryRepository;
     private final NotificationService notificationService;
+    private final ComplaintStatsService complaintStatsService;
+    private final OfficerAssignmentService officerAssignmentService;
+    private final ComplaintEventBroadcaster eventBroadcaster;
+    private final ComplaintVersions complaintVersions;
+    private final ComplaintDeltaService deltaService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // Number of candidates loaded, updated and committed together
+    @Value("${resolveit.escalation.batch-size:200}")
+    private int batchSize;
     
     // Default escalation threshold: 24 hours (can be configured per complaint)
     private static final int DEFAULT_ESCALATION_HOURS = 24;
@@ -32,11 +61,27 @@ public class EscalationService {
     public EscalationService(ComplaintRepository complaintRepository,
                             UserRepository userRepository,
                             ComplaintStatusHistoryRepository statusHistoryRepository,
-                            NotificationService notificationService) {
+                            NotificationService notificationService,
+                            ComplaintStatsService complaintStatsService,
+                            OfficerAssignmentService officerAssignmentService,
+                            ComplaintEventBroadcaster eventBroadcaster,
+                            ComplaintVersions complaintVersions,
+                            ComplaintDeltaService deltaService,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry) {
         this.complaintRepository = complaintRepository;
         this.userRepository = userRepository;
         this.statusHistoryRepository = statusHistoryRepository;
         this.notificationService = notificationService;
+        this.complaintStatsService = complaintStatsService;
+        this.officerAssignmentService = officerAssignmentService;
+        this.eventBroadcaster = eventBroadcaster;
+        this.complaintVersions = complaintVersions;
+        this.deltaService = deltaService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
     }
     
     /**
@@ -46,10 +91,23 @@ public class EscalationService {
      *  - Unassigned complaints that sit too long are auto-escalated to an L2 officer.
      *  - Assigned L1 complaints with a passed due date (deadline) and not resolved are
      *    also auto-escalated to an L2 officer.
+     *
+     * Candidates are walked in id order, {@code batchSize} at a time. Each chunk runs in its
+     * own short transaction, writes its history rows with one JDBC batch, and queues its emails
+     * in the notification outbox. A large backlog therefore never holds locks for the whole run
+     * or needs to fit in memory at once.
      */
     @Scheduled(fixedRate = 3600000) // Run every hour (3600000 milliseconds)
-    @Transactional
     public void runEscalationChecks() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            escalateDueComplaints();
+        } finally {
+            sample.stop(meterRegistry.timer("resolveit.escalation.run"));
+        }
+    }
+
+    private void escalateDueComplaints() {
         logger.info("Starting escalation checks (unassigned + overdue assigned complaints)");
 
         LocalDateTime now = LocalDateTime.now();
@@ -63,54 +121,24 @@ public class EscalationService {
             return;
         }
 
-        Random random = new Random();
+        // Start from the real queue sizes; assignments during this run are counted in memory
+        officerAssignmentService.reconcile(l2Officers);
         int escalatedCount = 0;
 
         // 1) Unassigned complaints based on createdAt + threshold hours
-        List<Complaint> unassignedComplaints = complaintRepository.findUnassignedComplaintsForEscalation(
-                List.of(Complaint.Status.NEW, Complaint.Status.UNDER_REVIEW));
-
-        logger.info("Found {} unassigned complaints to check for escalation", unassignedComplaints.size());
-
-        for (Complaint complaint : unassignedComplaints) {
-            try {
-                int thresholdHours = complaint.getEscalationThresholdHours() != null
-                        ? complaint.getEscalationThresholdHours()
-                        : DEFAULT_ESCALATION_HOURS;
-
-                LocalDateTime escalationTime = complaint.getCreatedAt().plusHours(thresholdHours);
-
-                if (now.isAfter(escalationTime) || now.isEqual(escalationTime)) {
-                    User assignedL2Officer = l2Officers.get(random.nextInt(l2Officers.size()));
-
-                    Complaint.Status oldStatus = complaint.getStatus();
-                    complaint.setAssignedOfficer(assignedL2Officer);
-                    complaint.setStatus(Complaint.Status.ESCALATED);
-
-                    complaintRepository.save(complaint);
-
-                    String comment = String.format(
-                            "Complaint auto-escalated to L2 officer %s after %d hours without assignment",
-                            assignedL2Officer.getUsername(), thresholdHours);
-
-                    ComplaintStatusHistory history = new ComplaintStatusHistory(
-                            Complaint.Status.ESCALATED,
-                            comment,
-                            complaint,
-                            null
-                    );
-                    statusHistoryRepository.save(history);
-
-                    notificationService.sendComplaintStatusChangeNotification(complaint, oldStatus, comment);
-
-                    escalatedCount++;
-                    logger.info("Escalated unassigned complaint ID {} to L2 officer {}",
-                            complaint.getId(), assignedL2Officer.getUsername());
-                }
-            } catch (Exception e) {
-                logger.error("Error escalating unassigned complaint ID {}: {}", complaint.getId(), e.getMessage(), e);
-            }
-        }
+        List<Complaint.Status> unassignedStatuses = List.of(Complaint.Status.NEW, Complaint.Status.UNDER_REVIEW);
+        escalatedCount += escalateInChunks(
+                "unassigned",
+                afterId -> complaintRepository.findUnassignedComplaintsForEscalation(
+                        unassignedStatuses, now, afterId, PageRequest.of(0, batchSize)),
+                complaint -> {
+                    int thresholdHours = complaint.getEscalationThresholdHours() != null
+                            ? complaint.getEscalationThresholdHours()
+                            : DEFAULT_ESCALATION_HOURS;
+                    // The query only returns complaints whose escalate_at has passed
+                    return String.format("after %d hours without assignment", thresholdHours);
+                },
+                l2Officers);
 
         // 2) Assigned L1 complaints where dueDate has passed and status is still active
         List<Complaint.Status> activeStatuses = List.of(
@@ -118,70 +146,161 @@ public class EscalationService {
                 Complaint.Status.UNDER_REVIEW,
                 Complaint.Status.IN_PROGRESS
         );
+        escalatedCount += escalateInChunks(
+                "overdue",
+                afterId -> complaintRepository.findOverdueComplaintsForEscalation(
+                        User.OfficerLevel.L1, now, activeStatuses, afterId, PageRequest.of(0, batchSize)),
+                complaint -> String.format("after missing deadline %s",
+                        complaint.getDueDate() != null ? complaint.getDueDate().toString() : "N/A"),
+                l2Officers);
 
-        List<Complaint> overdueAssignedComplaints = complaintRepository.findOverdueComplaintsForEscalation(
-                User.OfficerLevel.L1, now, activeStatuses);
+        logger.info("Escalation checks completed. Escalated {} complaints in total", escalatedCount);
+    }
 
-        logger.info("Found {} assigned L1 complaints with passed deadline to check for escalation",
-                overdueAssignedComplaints.size());
+    /**
+     * Walks the candidate stream chunk by chunk until a short batch signals the end.
+     */
+    private int escalateInChunks(String flow,
+                                 LongFunction<List<Complaint>> nextBatch,
+                                 EscalationRule rule,
+                                 List<User> l2Officers) {
+        int escalated = 0;
+        int scanned = 0;
+        long afterId = 0L;
+
+        while (true) {
+            long cursor = afterId;
+            ChunkResult chunk = transactionTemplate.execute(status ->
+                    escalateChunk(flow, nextBatch.apply(cursor), rule, l2Officers));
+            if (chunk == null || chunk.fetched == 0) {
+                break;
+            }
 
-        for (Complaint complaint : overdueAssignedComplaints) {
-            try {
-                User assignedL2Officer = l2Officers.get(random.nextInt(l2Officers.size()));
+            scanned += chunk.fetched;
+            escalated += chunk.escalated;
+            afterId = chunk.lastId;
+            if (chunk.fetched < batchSize) {
+                break;
+            }
+        }
 
-                Complaint.Status oldStatus = complaint.getStatus();
-                complaint.setAssignedOfficer(assignedL2Officer);
-                complaint.setStatus(Complaint.Status.ESCALATED);
+        meterRegistry.counter("resolveit.escalation.scanned", "flow", flow).increment(scanned);
+        meterRegistry.counter("resolveit.escalation.escalated", "flow", flow).increment(escalated);
+        logger.info("Scanned {} {} complaints, escalated {}", scanned, flow, escalated);
+        return escalated;
+    }
 
-                complaintRepository.save(complaint);
+    private ChunkResult escalateChunk(String flow,
+                                      List<Complaint> candidates,
+                                      EscalationRule rule,
+                                      List<User> l2Officers) {
+        ChunkResult result = new ChunkResult();
+        result.fetched = candidates.size();
+        if (candidates.isEmpty()) {
+            return result;
+        }
+        result.lastId = candidates.get(candidates.size() - 1).getId();
 
-                String comment = String.format(
-                        "Complaint auto-escalated to L2 officer %s after missing deadline %s",
-                        assignedL2Officer.getUsername(),
-                        complaint.getDueDate() != null ? complaint.getDueDate().toString() : "N/A");
+        Timestamp changedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> historyRows = new ArrayList<>();
+        Map<Long, Long> previousOfficers = new HashMap<>();
+        List<Escalation> escalations = new ArrayList<>();
 
-                ComplaintStatusHistory history = new ComplaintStatusHistory(
-                        Complaint.Status.ESCALATED,
-                        comment,
-                        complaint,
-                        null
-                );
-                statusHistoryRepository.save(history);
+        // Only in-memory work may fail per complaint: an exception from a @Transactional
+        // collaborator would mark the whole chunk rollback-only even when caught here
+        for (Complaint complaint : candidates) {
+            try {
+                String reason = rule.reasonFor(complaint);
+                if (reason == null) {
+                    continue;
+                }
 
-                notificationService.sendComplaintStatusChangeNotification(complaint, oldStatus, comment);
+                User assignedL2Officer = officerAssignmentService.assign(complaint, l2Officers);
+                String comment = String.format("Complaint auto-escalated to L2 officer %s %s",
+                        assignedL2Officer.getUsername(), reason);
 
-                escalatedCount++;
-                logger.info("Escalated overdue complaint ID {} to L2 officer {}",
-                        complaint.getId(), assignedL2Officer.getUsername());
+                Escalation escalation = new Escalation(complaint, complaintStatsService.keyOf(complaint), comment);
+                Long oldOfficerId = escalation.oldOfficerId;
+                complaint.setAssignedOfficer(assignedL2Officer);
+                complaint.setStatus(Complaint.Status.ESCALATED);
+                if (oldOfficerId != null && !oldOfficerId.equals(assignedL2Officer.getId())) {
+                    previousOfficers.put(complaint.getId(), oldOfficerId);
+                }
+
+                historyRows.add(new Object[] {
+                        Complaint.Status.ESCALATED.name(), comment, complaint.getId(), null, changedAt, false
+                });
+                escalations.add(escalation);
+                logger.info("Escalated {} complaint ID {} to L2 officer {}",
+                        flow, complaint.getId(), assignedL2Officer.getUsername());
             } catch (Exception e) {
-                logger.error("Error escalating overdue complaint ID {}: {}", complaint.getId(), e.getMessage(), e);
+                meterRegistry.counter("resolveit.escalation.failures", "flow", flow).increment();
+                logger.error("Error escalating {} complaint ID {}: {}", flow, complaint.getId(), e.getMessage(), e);
             }
         }
+        result.escalated = escalations.size();
+
+        // Database writes for the whole chunk; a failure here rolls the chunk back as a unit
+        complaintStatsService.recordChanged(
+                escalations.stream().map(escalation -> escalation.statsBefore).toList(),
+                escalations.stream().map(escalation -> escalation.complaint).toList());
+        for (Escalation escalation : escalations) {
+            // Queued in the outbox inside this chunk's transaction, sent by the dispatcher
+            notificationService.sendComplaintStatusChangeNotification(
+                    escalation.complaint, escalation.oldStatus, escalation.comment);
+            complaintVersions.recordChange(escalation.complaint, escalation.oldOfficerId);
+            eventBroadcaster.publish(escalation.complaint, ComplaintEvent.Type.STATUS_CHANGED, escalation.oldOfficerId);
+        }
 
-        logger.info("Escalation checks completed. Escalated {} complaints in total", escalatedCount);
+        // Complaint updates are flushed by Hibernate at commit; history rows go in one JDBC batch
+        if (!historyRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, historyRows);
+        }
+        deltaService.recordRemoved(previousOfficers);
+        return result;
     }
-    
+
     /**
-     * Manual escalation method that can be called from admin services
+     * Manual escalation method that can be called from admin services.
+     * When {@code l2OfficerId} is null the configured assignment strategy picks the officer.
      */
     @Transactional
     public void escalateComplaint(Long complaintId, Long l2OfficerId) {
         Complaint complaint = complaintRepository.findById(complaintId)
                 .orElseThrow(() -> new IllegalArgumentException("Complaint not found"));
         
-        User l2Officer = userRepository.findById(l2OfficerId)
-                .orElseThrow(() -> new IllegalArgumentException("L2 officer not found"));
-        
-        if (l2Officer.getRole() != User.Role.OFFICER || 
-            l2Officer.getOfficerLevel() != User.OfficerLevel.L2) {
-            throw new IllegalArgumentException("User must be an L2 officer");
+        User l2Officer;
+        if (l2OfficerId == null) {
+            List<User> l2Officers = userRepository.findByRoleAndOfficerLevel(
+                    User.Role.OFFICER, User.OfficerLevel.L2);
+            if (l2Officers.isEmpty()) {
+                throw new IllegalStateException("No L2 officers available");
+            }
+            l2Officer = officerAssignmentService.assign(complaint, l2Officers);
+        } else {
+            l2Officer = userRepository.findById(l2OfficerId)
+                    .orElseThrow(() -> new IllegalArgumentException("L2 officer not found"));
+            
+            if (l2Officer.getRole() != User.Role.OFFICER || 
+                l2Officer.getOfficerLevel() != User.OfficerLevel.L2) {
+                throw new IllegalArgumentException("User must be an L2 officer");
+            }
+            officerAssignmentService.recordAssigned(l2Officer);
         }
         
         Complaint.Status oldStatus = complaint.getStatus();
+        Long oldOfficerId = complaint.getAssignedOfficer() != null ? complaint.getAssignedOfficer().getId() : null;
+        ComplaintStatsService.StatKey statsBefore = complaintStatsService.keyOf(complaint);
         complaint.setAssignedOfficer(l2Officer);
         complaint.setStatus(Complaint.Status.ESCALATED);
         
         complaintRepository.save(complaint);
+        complaintStatsService.recordChanged(statsBefore, complaint);
+        complaintVersions.recordChange(complaint, oldOfficerId);
+        eventBroadcaster.publish(complaint, ComplaintEvent.Type.STATUS_CHANGED, oldOfficerId);
+        if (!l2Officer.getId().equals(oldOfficerId)) {
+            deltaService.recordRemoved(complaint.getId(), oldOfficerId);
+        }
         
         String comment = "Complaint manually escalated to L2 officer";
 
@@ -198,5 +317,38 @@ public class EscalationService {
         logger.info("Manually escalated complaint ID {} to L2 officer {}", 
                 complaint.getId(), l2Officer.getUsername());
     }
-}
 
+    /**
+     * Returns why the complaint should be escalated (appended to the history comment),
+     * or null when it is not due yet.
+     */
+    @FunctionalInterface
+    private interface EscalationRule {
+        String reasonFor(Complaint complaint);
+    }
+
+    /**
+     * A complaint escalated in the current chunk, with what it looked like before.
+     */
+    private static class Escalation {
+        final Complaint complaint;
+        final ComplaintStatsService.StatKey statsBefore;
+        final Complaint.Status oldStatus;
+        final Long oldOfficerId;
+        final String comment;
+
+        Escalation(Complaint complaint, ComplaintStatsService.StatKey statsBefore, String comment) {
+            this.complaint = complaint;
+            this.statsBefore = statsBefore;
+            this.oldStatus = complaint.getStatus();
+            this.oldOfficerId = complaint.getAssignedOfficer() != null ? complaint.getAssignedOfficer().getId() : null;
+            this.comment = comment;
+        }
+    }
+
+    private static class ChunkResult {
+        int fetched;
+        long lastId;
+        int escalated;
+    }
+}
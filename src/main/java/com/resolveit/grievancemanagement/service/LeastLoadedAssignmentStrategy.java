@@ -0,0 +1,34 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Gives the complaint to the candidate with the fewest open complaints
+ * (ties go to the lowest id so the choice is deterministic).
+ */
+@Component
+public class LeastLoadedAssignmentStrategy implements OfficerAssignmentStrategy {
+
+    private final OfficerLoadTracker loadTracker;
+
+    public LeastLoadedAssignmentStrategy(OfficerLoadTracker loadTracker) {
+        this.loadTracker = loadTracker;
+    }
+
+    @Override
+    public String name() {
+        return "least-loaded";
+    }
+
+    @Override
+    public User choose(Complaint complaint, List<User> candidates) {
+        return candidates.stream()
+                .min(Comparator.comparingLong(loadTracker::openCount).thenComparing(User::getId))
+                .orElseThrow(() -> new IllegalStateException("No officers available for assignment"));
+    }
+}
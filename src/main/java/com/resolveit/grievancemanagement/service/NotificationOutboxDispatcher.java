@@ -0,0 +1,245 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.entity.OutboxNotification;
+import com.resolveit.grievancemanagement.repository.OutboxNotificationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drains the notification outbox.
+ *
+ * Each poll claims up to {@code batchSize} due rows (leasing them by pushing their next
+ * attempt into the future), splits them across a fixed pool of workers, and sends each
+ * worker's share over one SMTP connection. Failed rows are retried with exponential
+ * backoff and marked DEAD after {@code maxAttempts}. If the process dies mid-send the
+ * lease simply expires and the rows are picked up again.
+ */
+@Service
+public class NotificationOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutboxDispatcher.class);
+
+    private static final long LEASE_SECONDS = 300;
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    private final OutboxNotificationRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workers;
+    private final MeterRegistry meterRegistry;
+    private final Timer sendTimer;
+
+    @Value("${spring.mail.username:}")
+    private String fromAddress;
+
+    @Value("${resolveit.notifications.batch-size:100}")
+    private int batchSize;
+
+    @Value("${resolveit.notifications.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${resolveit.notifications.retry-base-seconds:30}")
+    private long retryBaseSeconds;
+
+    private final int workerCount;
+
+    public NotificationOutboxDispatcher(OutboxNotificationRepository outboxRepository,
+                                        JavaMailSender mailSender,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${resolveit.notifications.workers:2}") int workerCount,
+                                        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workerCount = Math.max(1, workerCount);
+        // Each batch is split into at most workerCount slices, so SMTP concurrency stays bounded either way
+        this.workers = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("outbox-worker-", 0).factory())
+                : Executors.newFixedThreadPool(this.workerCount);
+        this.meterRegistry = meterRegistry;
+        // Per SMTP round trip (one worker slice), not per message
+        this.sendTimer = Timer.builder("resolveit.notifications.send")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("resolveit.notifications.pending", outboxRepository,
+                        repository -> repository.countByStatus(OutboxNotification.Status.PENDING))
+                .description("Outbox rows waiting to be sent")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${resolveit.notifications.poll-interval-ms:5000}")
+    public void dispatchPending() {
+        List<OutboxNotification> claimed;
+        do {
+            claimed = claimDue();
+            if (!claimed.isEmpty()) {
+                sendAndRecord(claimed);
+            }
+        } while (claimed.size() == batchSize && !Thread.currentThread().isInterrupted());
+    }
+
+    private List<OutboxNotification> claimDue() {
+        List<OutboxNotification> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxNotification> due = outboxRepository.findDueForDispatch(now, PageRequest.of(0, batchSize));
+            for (OutboxNotification notification : due) {
+                notification.setNextAttemptAt(now.plusSeconds(LEASE_SECONDS));
+            }
+            return due;
+        });
+        return claimed != null ? claimed : Collections.emptyList();
+    }
+
+    private void sendAndRecord(List<OutboxNotification> claimed) {
+        int perWorker = (claimed.size() + workerCount - 1) / workerCount;
+        List<List<OutboxNotification>> slices = new ArrayList<>();
+        List<Future<Map<Long, String>>> results = new ArrayList<>();
+        for (int start = 0; start < claimed.size(); start += perWorker) {
+            List<OutboxNotification> slice = claimed.subList(start, Math.min(start + perWorker, claimed.size()));
+            slices.add(slice);
+            results.add(workers.submit(() -> sendSlice(slice)));
+        }
+
+        // Every slice that finished is recorded, even when another one failed: its mail is already out
+        List<Long> ids = new ArrayList<>();
+        Map<Long, String> failures = new HashMap<>();
+        boolean interrupted = false;
+        for (int i = 0; i < results.size(); i++) {
+            Future<Map<Long, String>> result = results.get(i);
+            if (!interrupted) {
+                try {
+                    result.get();
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                } catch (ExecutionException ex) {
+                    // Reported below from the future's state
+                }
+            }
+            switch (result.state()) {
+                case SUCCESS -> {
+                    failures.putAll(result.resultNow());
+                    slices.get(i).forEach(notification -> ids.add(notification.getId()));
+                }
+                // A worker died outright; its rows keep their lease and will be retried
+                case FAILED -> logger.error("Notification worker failed: {}",
+                        result.exceptionNow().getMessage(), result.exceptionNow());
+                // Still running after an interrupt; its rows keep their lease too
+                default -> { }
+            }
+        }
+        if (!ids.isEmpty()) {
+            recordResults(ids, failures);
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Marks the given rows SENT, or schedules a retry for those with an entry in {@code failures}.
+     */
+    private void recordResults(List<Long> ids, Map<Long, String> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (OutboxNotification notification : outboxRepository.findAllById(ids)) {
+                String error = failures.get(notification.getId());
+                if (error == null) {
+                    notification.setStatus(OutboxNotification.Status.SENT);
+                    notification.setSentAt(now);
+                    notification.setLastError(null);
+                    continue;
+                }
+                int attempts = notification.getAttempts() + 1;
+                notification.setAttempts(attempts);
+                notification.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+                if (attempts >= maxAttempts) {
+                    notification.setStatus(OutboxNotification.Status.DEAD);
+                    meterRegistry.counter("resolveit.notifications.dead").increment();
+                    logger.error("Giving up on notification {} for complaint {} after {} attempts: {}",
+                            notification.getId(), notification.getComplaintId(), attempts, error);
+                } else {
+                    notification.setNextAttemptAt(now.plusSeconds(backoffSeconds(attempts)));
+                }
+            }
+        });
+
+        meterRegistry.counter("resolveit.notifications.sent").increment(ids.size() - failures.size());
+        meterRegistry.counter("resolveit.notifications.failed").increment(failures.size());
+        logger.info("Dispatched {} notifications ({} failed)", ids.size(), failures.size());
+    }
+
+    /**
+     * Sends one slice over a single SMTP connection; returns error messages keyed by outbox id.
+     */
+    private Map<Long, String> sendSlice(List<OutboxNotification> slice) {
+        Map<SimpleMailMessage, Long> ids = new IdentityHashMap<>();
+        for (OutboxNotification notification : slice) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(notification.getRecipient());
+            if (fromAddress != null && !fromAddress.isBlank()) {
+                message.setFrom(fromAddress);
+            }
+            message.setSubject(notification.getSubject());
+            message.setText(notification.getBody());
+            ids.put(message, notification.getId());
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            mailSender.send(ids.keySet().toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException ex) {
+            if (ex.getFailedMessages().isEmpty()) {
+                ids.values().forEach(id -> failures.put(id, String.valueOf(ex.getMessage())));
+            } else {
+                ex.getFailedMessages().forEach((message, cause) -> {
+                    Long id = ids.get(message);
+                    if (id != null) {
+                        failures.put(id, String.valueOf(cause.getMessage()));
+                    }
+                });
+            }
+        } catch (Exception ex) {
+            ids.values().forEach(id -> failures.put(id, String.valueOf(ex.getMessage())));
+        } finally {
+            sample.stop(sendTimer);
+        }
+        return failures;
+    }
+
+    private long backoffSeconds(int attempts) {
+        long delay = retryBaseSeconds << Math.min(attempts - 1, 20);
+        return Math.min(delay, MAX_BACKOFF_SECONDS);
+    }
+}
@@ -1,31 +1,39 @@
 package com.resolveit.grievancemanagement.service;
 
 import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.OutboxNotification;
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.repository.OutboxNotificationRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Service
 public class NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
 
-    private final JavaMailSender mailSender;
+    private static final int MAX_LISTED_TICKETS = 50;
 
-    @Value("${spring.mail.username:}")
-    private String fromAddress;
+    private final OutboxNotificationRepository outboxRepository;
 
-    public NotificationService(JavaMailSender mailSender) {
-        this.mailSender = mailSender;
+    public NotificationService(OutboxNotificationRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
     }
 
     /**
-     * Sends an email notification to the citizen/anonymous user when the complaint status changes
+     * Queues an email notification to the citizen/anonymous user when the complaint status changes
      * to one of the tracked states (UNDER_REVIEW, IN_PROGRESS, RESOLVED, ESCALATED).
+     *
+     * The email is written to the notification outbox inside the caller's transaction, so it is
+     * only delivered if the status change commits; NotificationOutboxDispatcher sends it later.
      */
+    @Transactional
     public void sendComplaintStatusChangeNotification(Complaint complaint,
                                                       Complaint.Status oldStatus,
                                                       String statusChangeComment) {
@@ -33,20 +41,83 @@ public class NotificationService {
             return;
         }
 
+        OutboxNotification notification = buildStatusChangeNotification(complaint, oldStatus, statusChangeComment);
+        if (notification != null) {
+            outboxRepository.save(notification);
+            logger.debug("Queued status-change email for complaint {} to {}", complaint.getId(), notification.getRecipient());
+        }
+    }
+
+    /**
+     * Queues the status-change emails of a bulk update in one go. {@code oldStatuses} is keyed
+     * by complaint id; complaints whose status did not change are skipped.
+     * Returns the number of emails queued.
+     */
+    @Transactional
+    public int queueStatusChangeNotifications(List<Complaint> complaints,
+                                              Map<Long, Complaint.Status> oldStatuses,
+                                              String statusChangeComment) {
+        List<OutboxNotification> notifications = new ArrayList<>();
+        for (Complaint complaint : complaints) {
+            OutboxNotification notification = buildStatusChangeNotification(
+                    complaint, oldStatuses.get(complaint.getId()), statusChangeComment);
+            if (notification != null) {
+                notifications.add(notification);
+            }
+        }
+        outboxRepository.saveAll(notifications);
+        return notifications.size();
+    }
+
+    /**
+     * One summary email to an officer who has been given a batch of complaints,
+     * instead of one email per complaint.
+     */
+    @Transactional
+    public void queueBulkAssignmentNotification(User officer, List<Long> complaintIds) {
+        if (officer == null || complaintIds.isEmpty()) {
+            return;
+        }
+        if (officer.getEmail() == null || officer.getEmail().isBlank()) {
+            logger.warn("Skipping bulk assignment email for officer {} because email is missing", officer.getId());
+            return;
+        }
+
+        String subject = String.format("%d complaint(s) have been assigned to you", complaintIds.size());
+        StringBuilder sb = new StringBuilder();
+        sb.append("Dear ").append(officer.getFirstName() != null ? officer.getFirstName() : officer.getUsername()).append(",\n\n");
+        sb.append("The following complaints have been assigned to you by an administrator:\n\n");
+        int listed = Math.min(complaintIds.size(), MAX_LISTED_TICKETS);
+        for (int i = 0; i < listed; i++) {
+            sb.append("  ").append(formatTicketNumber(complaintIds.get(i))).append("\n");
+        }
+        if (complaintIds.size() > listed) {
+            sb.append("  ... and ").append(complaintIds.size() - listed).append(" more\n");
+        }
+        sb.append("\nYou can log in to the portal to view them in your queue.\n\n");
+        sb.append("Regards,\n");
+        sb.append("ResolveIT Grievance Management System");
+
+        outboxRepository.save(new OutboxNotification(null, officer.getEmail(), subject, sb.toString()));
+    }
+
+    private OutboxNotification buildStatusChangeNotification(Complaint complaint,
+                                                             Complaint.Status oldStatus,
+                                                             String statusChangeComment) {
         Complaint.Status newStatus = complaint.getStatus();
         if (newStatus == null || newStatus == oldStatus) {
-            return; // No change
+            return null; // No change
         }
 
         if (!shouldNotifyOnStatus(newStatus)) {
-            return; // Only notify for specific statuses
+            return null; // Only notify for specific statuses
         }
 
         String recipientEmail = resolveRecipientEmail(complaint);
         if (recipientEmail == null || recipientEmail.isBlank()) {
             logger.warn("Skipping status-change email for complaint {} because recipient email is missing",
                     complaint.getId());
-            return;
+            return null;
         }
 
         String ticketNumber = formatTicketNumber(complaint.getId());
@@ -55,21 +126,7 @@ public class NotificationService {
                 toReadableStatus(newStatus));
 
         String body = buildEmailBody(complaint, oldStatus, newStatus, statusChangeComment, ticketNumber);
-
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(recipientEmail);
-            if (fromAddress != null && !fromAddress.isBlank()) {
-                message.setFrom(fromAddress);
-            }
-            message.setSubject(subject);
-            message.setText(body);
-            mailSender.send(message);
-            logger.info("Sent status-change email for complaint {} to {}", complaint.getId(), recipientEmail);
-        } catch (Exception ex) {
-            logger.error("Failed to send status-change email for complaint {}: {}",
-                    complaint.getId(), ex.getMessage(), ex);
-        }
+        return new OutboxNotification(complaint.getId(), recipientEmail, subject, body);
     }
 
     private boolean shouldNotifyOnStatus(Complaint.Status status) {
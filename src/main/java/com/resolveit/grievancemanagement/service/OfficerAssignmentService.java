@@ -0,0 +1,55 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.config.AssignmentProperties;
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Entry point for choosing an officer. Delegates to the strategy named by
+ * {@code resolveit.assignment.strategy} and keeps the load tracker in step.
+ */
+@Service
+public class OfficerAssignmentService {
+
+    private final OfficerAssignmentStrategy strategy;
+    private final OfficerLoadTracker loadTracker;
+
+    public OfficerAssignmentService(List<OfficerAssignmentStrategy> strategies,
+                                    AssignmentProperties properties,
+                                    OfficerLoadTracker loadTracker) {
+        this.strategy = strategies.stream()
+                .filter(candidate -> candidate.name().equalsIgnoreCase(properties.getStrategy()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Unknown assignment strategy: " + properties.getStrategy()));
+        this.loadTracker = loadTracker;
+    }
+
+    /**
+     * Refreshes the open counts of the given officers from the database.
+     */
+    public void reconcile(List<User> officers) {
+        loadTracker.reconcile(officers);
+    }
+
+    /**
+     * Chooses an officer from the candidates, first re-reading any candidate whose
+     * count is older than {@code resolveit.assignment.load-max-age}.
+     */
+    public User assign(Complaint complaint, List<User> candidates) {
+        loadTracker.reconcileStale(candidates);
+        User officer = strategy.choose(complaint, candidates);
+        loadTracker.recordAssigned(officer);
+        return officer;
+    }
+
+    /**
+     * Records an assignment that was chosen explicitly (e.g. by an admin).
+     */
+    public void recordAssigned(User officer) {
+        loadTracker.recordAssigned(officer);
+    }
+}
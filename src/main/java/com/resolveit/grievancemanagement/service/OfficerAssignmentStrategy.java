@@ -0,0 +1,19 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+
+import java.util.List;
+
+/**
+ * Chooses which officer receives a complaint from a non-empty list of candidates.
+ */
+public interface OfficerAssignmentStrategy {
+
+    /**
+     * Name used to select this strategy via {@code resolveit.assignment.strategy}.
+     */
+    String name();
+
+    User choose(Complaint complaint, List<User> candidates);
+}
@@ -1,15 +1,16 @@
 package com.resolveit.grievancemanagement.service;
 
 import com.resolveit.grievancemanagement.dto.AdminComplaintResponse;
+import com.resolveit.grievancemanagement.dto.ComplaintCursor;
+import com.resolveit.grievancemanagement.dto.ComplaintDelta;
+import com.resolveit.grievancemanagement.dto.ComplaintEvent;
 import com.resolveit.grievancemanagement.dto.OfficerComplaintUpdateRequest;
 import com.resolveit.grievancemanagement.entity.Complaint;
 import com.resolveit.grievancemanagement.entity.ComplaintStatusHistory;
 import com.resolveit.grievancemanagement.entity.User;
 import com.resolveit.grievancemanagement.repository.ComplaintRepository;
 import com.resolveit.grievancemanagement.repository.ComplaintStatusHistoryRepository;
-import com.resolveit.grievancemanagement.repository.UserRepository;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import com.resolveit.grievancemanagement.security.CurrentUserResolver;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -32,30 +33,36 @@ public class OfficerComplaintService {
 
     private final ComplaintRepository complaintRepository;
     private final ComplaintStatusHistoryRepository statusHistoryRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final AdminComplaintService adminComplaintService;
     private final NotificationService notificationService;
+    private final ComplaintStatsService complaintStatsService;
+    private final ComplaintEventBroadcaster eventBroadcaster;
+    private final ComplaintDeltaService deltaService;
+    private final ComplaintVersions complaintVersions;
 
     public OfficerComplaintService(ComplaintRepository complaintRepository,
                                    ComplaintStatusHistoryRepository statusHistoryRepository,
-                                   UserRepository userRepository,
+                                   CurrentUserResolver currentUserResolver,
                                    AdminComplaintService adminComplaintService,
-                                   NotificationService notificationService) {
+                                   NotificationService notificationService,
+                                   ComplaintStatsService complaintStatsService,
+                                   ComplaintEventBroadcaster eventBroadcaster,
+                                   ComplaintDeltaService deltaService,
+                                   ComplaintVersions complaintVersions) {
         this.complaintRepository = complaintRepository;
         this.statusHistoryRepository = statusHistoryRepository;
-        this.userRepository = userRepository;
+        this.currentUserResolver = currentUserResolver;
         this.adminComplaintService = adminComplaintService;
         this.notificationService = notificationService;
+        this.complaintStatsService = complaintStatsService;
+        this.eventBroadcaster = eventBroadcaster;
+        this.deltaService = deltaService;
+        this.complaintVersions = complaintVersions;
     }
 
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new IllegalStateException("No authenticated user found");
-        }
-        String principalName = authentication.getName();
-        return userRepository.findByUsernameOrEmail(principalName, principalName)
-                .orElseThrow(() -> new IllegalStateException("Authenticated user not found"));
+        return currentUserResolver.getUser();
     }
 
     @Transactional(readOnly = true)
@@ -69,6 +76,37 @@ public class OfficerComplaintService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Complaints assigned to the current officer that changed since the {@code since} cursor,
+     * plus ids of complaints taken off their list since then.
+     */
+    @Transactional(readOnly = true)
+    public ComplaintDelta<AdminComplaintResponse> listAssignedChanges(String since, Integer size) {
+        Long officerId = currentUserResolver.getPrincipal().getId();
+        return deltaService.changesSince(since, size, officerId,
+                (afterUpdatedAt, afterId, pageable) ->
+                        complaintRepository.findChangedForOfficer(officerId, afterUpdatedAt, afterId, pageable),
+                complaint -> new ComplaintCursor(complaint.getUpdatedAt(), complaint.getId()),
+                adminComplaintService::mapToResponse);
+    }
+
+    public String assignedComplaintsETag() {
+        return complaintVersions.officerComplaintsETag(currentUserResolver.getPrincipal().getId());
+    }
+
+    /**
+     * Strong ETag of an assigned complaint, with the same access rule as the detail read.
+     */
+    @Transactional(readOnly = true)
+    public String getAssignedComplaintETag(Long complaintId) {
+        ComplaintVersions.Version version = complaintVersions.complaint(complaintId);
+        UserPrincipal principal = currentUserResolver.getPrincipal();
+        if (principal.getRole() != User.Role.ADMIN && !principal.getId().equals(version.getOfficerId())) {
+            throw new IllegalArgumentException("Unauthorized");
+        }
+        return version.getETag();
+    }
+
     @Transactional(readOnly = true)
     public AdminComplaintResponse getAssignedComplaint(Long complaintId) {
         User current = getCurrentUser();
@@ -89,6 +127,7 @@ public class OfficerComplaintService {
         ensureHasAccess(current, complaint);
 
         Complaint.Status oldStatus = complaint.getStatus();
+        ComplaintStatsService.StatKey statsBefore = complaintStatsService.keyOf(complaint);
 
         boolean statusChanged = false;
         if (request.getStatus() != null && request.getStatus() != complaint.getStatus()) {
@@ -111,7 +150,13 @@ public class OfficerComplaintService {
             }
         }
 
+        // A comment alone only adds history; bump the complaint so delta sync reports it
+        if (StringUtils.hasText(request.getOfficerComment())) {
+            complaint.setUpdatedAt(LocalDateTime.now());
+        }
+
         Complaint saved = complaintRepository.save(complaint);
+        complaintStatsService.recordChanged(statsBefore, saved);
 
         if (statusChanged || StringUtils.hasText(request.getOfficerComment())) {
             ComplaintStatusHistory history = new ComplaintStatusHistory(
@@ -126,6 +171,10 @@ public class OfficerComplaintService {
         if (statusChanged) {
             notificationService.sendComplaintStatusChangeNotification(saved, oldStatus, request.getOfficerComment());
         }
+        complaintVersions.recordChange(saved, null);
+        eventBroadcaster.publish(saved, statusChanged ? ComplaintEvent.Type.STATUS_CHANGED
+                : StringUtils.hasText(request.getOfficerComment()) ? ComplaintEvent.Type.NOTE_ADDED
+                : ComplaintEvent.Type.UPDATED);
 
         return adminComplaintService.mapToResponse(saved);
     }
@@ -133,7 +182,8 @@ public class OfficerComplaintService {
     private void ensureHasAccess(User current, Complaint complaint) {
         // Admins can see/update via this endpoint as well (useful for debugging),
         // but officers are limited strictly to complaints assigned to them.
-        if (current.getRole() == User.Role.ADMIN) {
+        // The role comes from the principal so the user reference stays uninitialized.
+        if (currentUserResolver.getPrincipal().getRole() == User.Role.ADMIN) {
             return;
         }
 
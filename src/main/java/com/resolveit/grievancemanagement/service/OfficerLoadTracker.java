@@ -0,0 +1,95 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.config.AssignmentProperties;
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.repository.ComplaintRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory count of open complaints per officer.
+ *
+ * Incremented on every assignment made through OfficerAssignmentService and
+ * reset from the database by {@link #reconcile(List)}, which picks up
+ * resolutions and reassignments made elsewhere. Nothing decrements the counts, so
+ * a count is only trusted for {@code resolveit.assignment.load-max-age}:
+ * {@link #reconcileStale(List)} re-reads older ones before each assignment, and
+ * entries nobody has reconciled within that age are dropped.
+ */
+@Component
+public class OfficerLoadTracker {
+
+    private static final List<Complaint.Status> OPEN_STATUSES = List.of(
+            Complaint.Status.NEW,
+            Complaint.Status.UNDER_REVIEW,
+            Complaint.Status.IN_PROGRESS,
+            Complaint.Status.ESCALATED
+    );
+
+    private final ComplaintRepository complaintRepository;
+    private final AssignmentProperties properties;
+
+    private final Map<Long, Load> loads = new ConcurrentHashMap<>();
+
+    public OfficerLoadTracker(ComplaintRepository complaintRepository, AssignmentProperties properties) {
+        this.complaintRepository = complaintRepository;
+        this.properties = properties;
+    }
+
+    public void reconcile(List<User> officers) {
+        if (officers.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> open = new HashMap<>();
+        for (Object[] row : complaintRepository.countByOfficerInStatuses(
+                officers.stream().map(User::getId).toList(), OPEN_STATUSES)) {
+            open.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        long now = System.currentTimeMillis();
+        for (User officer : officers) {
+            Load load = loads.computeIfAbsent(officer.getId(), id -> new Load());
+            load.open.set(open.getOrDefault(officer.getId(), 0L));
+            load.reconciledAt = now;
+        }
+        loads.values().removeIf(load -> isStale(load, now));
+    }
+
+    /**
+     * Reconciles only the officers whose count is missing or older than the max age.
+     */
+    public void reconcileStale(List<User> officers) {
+        long now = System.currentTimeMillis();
+        List<User> stale = officers.stream()
+                .filter(officer -> {
+                    Load load = loads.get(officer.getId());
+                    return load == null || isStale(load, now);
+                })
+                .toList();
+        reconcile(stale);
+    }
+
+    public long openCount(User officer) {
+        Load load = loads.get(officer.getId());
+        return load != null ? load.open.get() : 0;
+    }
+
+    public void recordAssigned(User officer) {
+        loads.computeIfAbsent(officer.getId(), id -> new Load()).open.incrementAndGet();
+    }
+
+    private boolean isStale(Load load, long now) {
+        return now - load.reconciledAt > properties.getLoadMaxAge().toMillis();
+    }
+
+    private static final class Load {
+        private final AtomicLong open = new AtomicLong();
+        // 0 until reconciled, so a count only ever incremented is stale
+        private volatile long reconciledAt;
+    }
+}
@@ -0,0 +1,85 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.dto.OfficerListItem;
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.repository.ComplaintRepository;
+import com.resolveit.grievancemanagement.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Officer listing with per-officer workload. All counts and averages come from a single
+ * grouped query over complaints, so the cost is two queries however many officers exist.
+ */
+@Service
+public class OfficerWorkloadService {
+
+    private static final List<Complaint.Status> OPEN_STATUSES = List.of(
+            Complaint.Status.NEW,
+            Complaint.Status.UNDER_REVIEW,
+            Complaint.Status.IN_PROGRESS,
+            Complaint.Status.ESCALATED
+    );
+
+    private final UserRepository userRepository;
+    private final ComplaintRepository complaintRepository;
+
+    public OfficerWorkloadService(UserRepository userRepository, ComplaintRepository complaintRepository) {
+        this.userRepository = userRepository;
+        this.complaintRepository = complaintRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<OfficerListItem> listOfficers(User.OfficerLevel level) {
+        List<User> officers = level != null
+                ? userRepository.findByRoleAndOfficerLevel(User.Role.OFFICER, level)
+                : userRepository.findByRole(User.Role.OFFICER);
+
+        Map<Long, OfficerListItem.Workload> workloads = new HashMap<>();
+        for (Object[] row : complaintRepository.officerWorkload(User.Role.OFFICER, level,
+                OPEN_STATUSES, Complaint.Status.IN_PROGRESS,
+                Complaint.Status.ESCALATED, LocalDateTime.now())) {
+            workloads.put((Long) row[0], toWorkload(row));
+        }
+
+        return officers.stream()
+                .map(officer -> {
+                    OfficerListItem item = new OfficerListItem(officer);
+                    item.setWorkload(workloads.getOrDefault(officer.getId(), new OfficerListItem.Workload()));
+                    return item;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private OfficerListItem.Workload toWorkload(Object[] row) {
+        OfficerListItem.Workload workload = new OfficerListItem.Workload();
+        workload.setOpen(toLong(row[1]));
+        workload.setInProgress(toLong(row[2]));
+        workload.setEscalated(toLong(row[3]));
+        workload.setOverdue(toLong(row[4]));
+        workload.setResolved(toLong(row[5]));
+        if (row[6] != null) {
+            workload.setAverageResolutionHours(round(((Number) row[6]).doubleValue() / 60.0));
+        }
+        if (row[7] != null) {
+            workload.setAverageRating(round(((Number) row[7]).doubleValue()));
+        }
+        workload.setRatingCount(toLong(row[8]));
+        return workload;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
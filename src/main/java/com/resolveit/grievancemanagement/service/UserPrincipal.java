@@ -15,6 +15,8 @@ public class UserPrincipal implements UserDetails {
     private String username;
     private String email;
     private String password;
+    private User.Role role;
+    private User.OfficerLevel officerLevel;
     private Collection<? extends GrantedAuthority> authorities;
     
     public UserPrincipal(Long id, String username, String email, String password, 
@@ -26,24 +28,45 @@ public class UserPrincipal implements UserDetails {
         this.authorities = authorities;
     }
     
+    public UserPrincipal(Long id, String username, String email, String password,
+                        User.Role role, User.OfficerLevel officerLevel) {
+        this(id, username, email, password, Collections.singletonList(
+            new SimpleGrantedAuthority("ROLE_" + role.name())
+        ));
+        this.role = role;
+        this.officerLevel = officerLevel;
+    }
+    
     public static UserPrincipal create(User user) {
-        Collection<GrantedAuthority> authorities = Collections.singletonList(
-            new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-        );
-        
         return new UserPrincipal(
             user.getId(),
             user.getUsername(),
             user.getEmail(),
             user.getPassword(),
-            authorities
+            user.getRole(),
+            user.getOfficerLevel()
         );
     }
     
+    /**
+     * Principal rebuilt from signed JWT claims; carries no email or password.
+     */
+    public static UserPrincipal fromClaims(Long id, String username, User.Role role, User.OfficerLevel officerLevel) {
+        return new UserPrincipal(id, username, null, null, role, officerLevel);
+    }
+    
     public Long getId() {
         return id;
     }
     
+    public User.Role getRole() {
+        return role;
+    }
+    
+    public User.OfficerLevel getOfficerLevel() {
+        return officerLevel;
+    }
+    
     public String getEmail() {
         return email;
     }
@@ -0,0 +1,60 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.config.AssignmentProperties;
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Smooth weighted round-robin: over any window each officer receives complaints in
+ * proportion to its configured weight, interleaved rather than in bursts.
+ */
+@Component
+public class WeightedRoundRobinAssignmentStrategy implements OfficerAssignmentStrategy {
+
+    private final AssignmentProperties properties;
+
+    private final Map<Long, Integer> currentWeights = new HashMap<>();
+
+    public WeightedRoundRobinAssignmentStrategy(AssignmentProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public String name() {
+        return "weighted-round-robin";
+    }
+
+    @Override
+    public synchronized User choose(Complaint complaint, List<User> candidates) {
+        // Officers no longer in the pool drop out; one who returns starts from zero
+        Set<Long> candidateIds = candidates.stream().map(User::getId).collect(Collectors.toSet());
+        currentWeights.keySet().retainAll(candidateIds);
+
+        User best = null;
+        int bestWeight = Integer.MIN_VALUE;
+        int totalWeight = 0;
+
+        for (User officer : candidates) {
+            int weight = Math.max(1, properties.getWeights().getOrDefault(officer.getUsername(), 1));
+            totalWeight += weight;
+            int current = currentWeights.merge(officer.getId(), weight, Integer::sum);
+            if (current > bestWeight) {
+                bestWeight = current;
+                best = officer;
+            }
+        }
+
+        if (best == null) {
+            throw new IllegalStateException("No officers available for assignment");
+        }
+        currentWeights.merge(best.getId(), -totalWeight, Integer::sum);
+        return best;
+    }
+}
@@ -0,0 +1,8 @@
+-- The escalation index led with (assigned_officer_id, status), the same prefix as
+-- idx_complaints_officer_status_due, and took over officer queue plans. The escalation scan
+-- only reads unassigned rows, so lead with its range predicate and check the officer column
+-- from the index.
+
+DROP INDEX idx_complaints_escalation;
+
+CREATE INDEX idx_complaints_escalation ON complaints (status, escalate_at, assigned_officer_id);
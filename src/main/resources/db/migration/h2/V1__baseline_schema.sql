@@ -0,0 +1,83 @@
+-- Schema as previously generated by spring.jpa.hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version and only receive later migrations.
+
+CREATE TABLE users (
+    id            BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    username      VARCHAR(50),
+    email         VARCHAR(100),
+    password      VARCHAR(100),
+    role          VARCHAR(32)  NOT NULL,
+    officer_level VARCHAR(32),
+    first_name    VARCHAR(255),
+    last_name     VARCHAR(255),
+    phone_number  VARCHAR(255),
+    is_enabled    BOOLEAN,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE complaints (
+    id                         BIGINT        GENERATED BY DEFAULT AS IDENTITY,
+    title                      VARCHAR(200),
+    description                VARCHAR(2000),
+    category                   VARCHAR(32)   NOT NULL,
+    priority                   VARCHAR(32)   NOT NULL,
+    status                     VARCHAR(32)   NOT NULL,
+    is_anonymous               BOOLEAN,
+    anonymous_email            VARCHAR(255),
+    anonymous_phone            VARCHAR(255),
+    user_id                    BIGINT,
+    assigned_officer_id        BIGINT,
+    due_date                   TIMESTAMP(6),
+    resolved_at                TIMESTAMP(6),
+    officer_rating             INT,
+    officer_feedback           VARCHAR(1000),
+    created_at                 TIMESTAMP(6),
+    updated_at                 TIMESTAMP(6),
+    escalation_threshold_hours INT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_complaints_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_complaints_assigned_officer FOREIGN KEY (assigned_officer_id) REFERENCES users (id)
+);
+
+CREATE TABLE complaint_comments (
+    id           BIGINT        GENERATED BY DEFAULT AS IDENTITY,
+    comment      VARCHAR(1000),
+    complaint_id BIGINT        NOT NULL,
+    user_id      BIGINT        NOT NULL,
+    is_internal  BOOLEAN,
+    created_at   TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_complaint_comments_complaint FOREIGN KEY (complaint_id) REFERENCES complaints (id),
+    CONSTRAINT fk_complaint_comments_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE complaint_status_history (
+    id               BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    status           VARCHAR(32)  NOT NULL,
+    comment          VARCHAR(500),
+    complaint_id     BIGINT       NOT NULL,
+    changed_by       BIGINT       NOT NULL,
+    changed_at       TIMESTAMP(6),
+    is_internal_note BOOLEAN,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_status_history_complaint FOREIGN KEY (complaint_id) REFERENCES complaints (id),
+    CONSTRAINT fk_status_history_changed_by FOREIGN KEY (changed_by) REFERENCES users (id)
+);
+
+CREATE TABLE file_uploads (
+    id           BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    file_name    VARCHAR(255),
+    file_path    VARCHAR(500),
+    file_type    VARCHAR(100),
+    file_size    BIGINT,
+    complaint_id BIGINT       NOT NULL,
+    uploaded_by  BIGINT       NOT NULL,
+    uploaded_at  TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_file_uploads_complaint FOREIGN KEY (complaint_id) REFERENCES complaints (id),
+    CONSTRAINT fk_file_uploads_uploaded_by FOREIGN KEY (uploaded_by) REFERENCES users (id)
+);
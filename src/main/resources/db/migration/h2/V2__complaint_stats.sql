@@ -0,0 +1,13 @@
+-- Rollup of complaint counts per day, category, priority, status and officer for the dashboards.
+
+CREATE TABLE complaint_stats (
+    id              BIGINT      GENERATED BY DEFAULT AS IDENTITY,
+    stat_day        DATE        NOT NULL,
+    category        VARCHAR(32) NOT NULL,
+    priority        VARCHAR(32) NOT NULL,
+    status          VARCHAR(32) NOT NULL,
+    officer_id      BIGINT,
+    complaint_count BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_complaint_stats_group UNIQUE (stat_day, category, priority, status, officer_id)
+);
@@ -0,0 +1,5 @@
+-- When an unassigned complaint becomes due for escalation, so the escalation check can filter on it.
+
+ALTER TABLE complaints ADD COLUMN escalate_at TIMESTAMP(6);
+
+CREATE INDEX idx_complaints_escalation ON complaints (assigned_officer_id, status, escalate_at);
@@ -0,0 +1,3 @@
+-- Escalation records history rows without a user; changed_by is null for system changes.
+
+ALTER TABLE complaint_status_history ALTER COLUMN changed_by SET NULL;
@@ -0,0 +1,18 @@
+-- Status emails queued with the complaint change and sent by NotificationOutboxDispatcher.
+
+CREATE TABLE notification_outbox (
+    id              BIGINT        GENERATED BY DEFAULT AS IDENTITY,
+    complaint_id    BIGINT,
+    recipient       VARCHAR(255)  NOT NULL,
+    subject         VARCHAR(255)  NOT NULL,
+    body            VARCHAR(4000) NOT NULL,
+    status          VARCHAR(32)   NOT NULL,
+    attempts        INT           NOT NULL,
+    next_attempt_at TIMESTAMP(6)   NOT NULL,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP(6),
+    sent_at         TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_notification_outbox_due ON notification_outbox (status, next_attempt_at);
@@ -0,0 +1,31 @@
+-- Composite indexes for the predicates and sort orders used by the repositories.
+
+-- Citizen complaint lists (findByUser, findByUserWithOfficer), newest first
+CREATE INDEX idx_complaints_user_created ON complaints (user_id, created_at);
+
+-- Officer queues and counts (findByAssignedOfficerAndStatusIn, countByOfficerInStatuses, officerWorkload)
+CREATE INDEX idx_complaints_officer_status_due ON complaints (assigned_officer_id, status, due_date);
+
+-- Admin keyset listing (findAdminPage) without filters
+CREATE INDEX idx_complaints_created ON complaints (created_at, id);
+
+-- Admin listing filtered by status or category, and findComplaintsForEscalation
+CREATE INDEX idx_complaints_status_created ON complaints (status, created_at);
+CREATE INDEX idx_complaints_category_created ON complaints (category, created_at);
+
+-- Overdue escalation (findOverdueComplaintsForEscalation)
+CREATE INDEX idx_complaints_status_due ON complaints (status, due_date);
+
+-- SLA breach summary reads only these two columns
+CREATE INDEX idx_complaints_due_resolved ON complaints (due_date, resolved_at);
+
+-- Admin "duplicates only" filter
+CREATE INDEX idx_complaints_duplicate_of ON complaints (duplicate_of_id);
+
+-- Per-complaint timelines
+CREATE INDEX idx_status_history_complaint_changed ON complaint_status_history (complaint_id, changed_at);
+CREATE INDEX idx_complaint_comments_complaint_created ON complaint_comments (complaint_id, created_at);
+CREATE INDEX idx_file_uploads_complaint ON file_uploads (complaint_id);
+
+-- Officer directory and assignment (findByRoleAndOfficerLevel)
+CREATE INDEX idx_users_role_level ON users (role, officer_level);
@@ -0,0 +1,18 @@
+-- Delta sync: "what changed since" reads for the complaint lists.
+
+-- Changed-since scans, globally (admin) and per citizen / per officer, in (updated_at, id) order
+CREATE INDEX idx_complaints_updated ON complaints (updated_at, id);
+CREATE INDEX idx_complaints_user_updated ON complaints (user_id, updated_at, id);
+CREATE INDEX idx_complaints_officer_updated ON complaints (assigned_officer_id, updated_at, id);
+
+-- Complaints that left an officer's list (reassigned, unassigned, escalated away)
+CREATE TABLE complaint_tombstones (
+    id           BIGINT      GENERATED BY DEFAULT AS IDENTITY,
+    complaint_id BIGINT      NOT NULL,
+    user_id      BIGINT      NOT NULL,
+    removed_at   TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_complaint_tombstones_user_removed ON complaint_tombstones (user_id, removed_at);
+CREATE INDEX idx_complaint_tombstones_removed ON complaint_tombstones (removed_at);
@@ -0,0 +1,9 @@
+-- Backfill escalate_at for complaints written before it existed, so the unassigned
+-- escalation scan can filter on escalate_at <= now alone and stay on idx_complaints_escalation.
+-- Rows without created_at fall back to updated_at, then to now.
+
+UPDATE complaints
+SET escalate_at = TIMESTAMPADD(HOUR, COALESCE(escalation_threshold_hours, 24), COALESCE(created_at, updated_at, CURRENT_TIMESTAMP))
+WHERE escalate_at IS NULL;
+
+ALTER TABLE complaints MODIFY escalate_at DATETIME(6) NOT NULL;
@@ -0,0 +1,8 @@
+-- Version counters behind the weak list ETags: "a" for all complaints, "u<id>" for a
+-- citizen's list, "o<id>" for an officer's. Bumped inside each complaint write transaction.
+
+CREATE TABLE complaint_list_versions (
+    scope   VARCHAR(32) NOT NULL,
+    version BIGINT      NOT NULL,
+    PRIMARY KEY (scope)
+) ENGINE = InnoDB;
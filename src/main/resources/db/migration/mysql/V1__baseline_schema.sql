@@ -0,0 +1,83 @@
+-- Schema as previously generated by spring.jpa.hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version and only receive later migrations.
+
+CREATE TABLE users (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    username      VARCHAR(50),
+    email         VARCHAR(100),
+    password      VARCHAR(100),
+    role          VARCHAR(32)  NOT NULL,
+    officer_level VARCHAR(32),
+    first_name    VARCHAR(255),
+    last_name     VARCHAR(255),
+    phone_number  VARCHAR(255),
+    is_enabled    BIT,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE complaints (
+    id                         BIGINT        NOT NULL AUTO_INCREMENT,
+    title                      VARCHAR(200),
+    description                VARCHAR(2000),
+    category                   VARCHAR(32)   NOT NULL,
+    priority                   VARCHAR(32)   NOT NULL,
+    status                     VARCHAR(32)   NOT NULL,
+    is_anonymous               BIT,
+    anonymous_email            VARCHAR(255),
+    anonymous_phone            VARCHAR(255),
+    user_id                    BIGINT,
+    assigned_officer_id        BIGINT,
+    due_date                   DATETIME(6),
+    resolved_at                DATETIME(6),
+    officer_rating             INT,
+    officer_feedback           VARCHAR(1000),
+    created_at                 DATETIME(6),
+    updated_at                 DATETIME(6),
+    escalation_threshold_hours INT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_complaints_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_complaints_assigned_officer FOREIGN KEY (assigned_officer_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE complaint_comments (
+    id           BIGINT        NOT NULL AUTO_INCREMENT,
+    comment      VARCHAR(1000),
+    complaint_id BIGINT        NOT NULL,
+    user_id      BIGINT        NOT NULL,
+    is_internal  BIT,
+    created_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_complaint_comments_complaint FOREIGN KEY (complaint_id) REFERENCES complaints (id),
+    CONSTRAINT fk_complaint_comments_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE complaint_status_history (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    status           VARCHAR(32)  NOT NULL,
+    comment          VARCHAR(500),
+    complaint_id     BIGINT       NOT NULL,
+    changed_by       BIGINT       NOT NULL,
+    changed_at       DATETIME(6),
+    is_internal_note BIT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_status_history_complaint FOREIGN KEY (complaint_id) REFERENCES complaints (id),
+    CONSTRAINT fk_status_history_changed_by FOREIGN KEY (changed_by) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE file_uploads (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    file_name    VARCHAR(255),
+    file_path    VARCHAR(500),
+    file_type    VARCHAR(100),
+    file_size    BIGINT,
+    complaint_id BIGINT       NOT NULL,
+    uploaded_by  BIGINT       NOT NULL,
+    uploaded_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_file_uploads_complaint FOREIGN KEY (complaint_id) REFERENCES complaints (id),
+    CONSTRAINT fk_file_uploads_uploaded_by FOREIGN KEY (uploaded_by) REFERENCES users (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,4 @@
+-- Near-duplicate flag set at submission.
+
+ALTER TABLE complaints ADD COLUMN duplicate_of_id BIGINT;
+ALTER TABLE complaints ADD COLUMN duplicate_similarity DOUBLE;
@@ -0,0 +1,12 @@
+-- Unassigned rollup groups use officer_id 0 instead of NULL, so the unique key covers them
+-- and increments can upsert. Any NULL-officer groups duplicated so far are merged here.
+
+INSERT INTO complaint_stats (stat_day, category, priority, status, officer_id, complaint_count)
+SELECT stat_day, category, priority, status, 0, SUM(complaint_count)
+FROM complaint_stats
+WHERE officer_id IS NULL
+GROUP BY stat_day, category, priority, status;
+
+DELETE FROM complaint_stats WHERE officer_id IS NULL;
+
+ALTER TABLE complaint_stats MODIFY officer_id BIGINT NOT NULL;
@@ -0,0 +1,145 @@
+package com.resolveit.grievancemanagement.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the H2 migrations from V1 in H2's MySQL mode and checks with EXPLAIN that the hot
+ * repository predicates are answered from their indexes rather than a table scan. The SQL
+ * mirrors the JPQL in the repositories; keep the two in step when either changes.
+ */
+class QueryIndexUsageTest {
+
+    private static final String URL = "jdbc:h2:mem:index-usage;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+        connection = DriverManager.getConnection(URL, "sa", "");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO users (id, username, email, role) VALUES (1, 'citizen', 'citizen@example.com', 'CITIZEN')");
+            statement.executeUpdate("INSERT INTO users (id, username, email, role, officer_level) VALUES (2, 'officer_l1', 'l1@example.com', 'OFFICER', 'L1')");
+            statement.executeUpdate("INSERT INTO users (id, username, email, role, officer_level) VALUES (3, 'officer_l2', 'l2@example.com', 'OFFICER', 'L2')");
+        }
+
+        String[] statuses = { "NEW", "UNDER_REVIEW", "IN_PROGRESS", "RESOLVED", "CLOSED", "ESCALATED" };
+        LocalDateTime base = LocalDateTime.now().minusDays(30);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO complaints (title, category, priority, status, user_id, assigned_officer_id, " +
+                "due_date, created_at, updated_at, escalate_at) VALUES (?, 'OTHER', 'MEDIUM', ?, 1, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < 600; i++) {
+                Timestamp at = Timestamp.valueOf(base.plusHours(i));
+                insert.setString(1, "Complaint " + i);
+                insert.setString(2, statuses[i % statuses.length]);
+                insert.setObject(3, i % 4 == 0 ? null : (Object) (long) (2 + i % 2));
+                insert.setTimestamp(4, Timestamp.valueOf(base.plusHours(i + 72)));
+                insert.setTimestamp(5, at);
+                insert.setTimestamp(6, at);
+                insert.setTimestamp(7, Timestamp.valueOf(base.plusHours(i + 24)));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void unassignedEscalationUsesEscalationIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM complaints WHERE assigned_officer_id IS NULL " +
+                        "AND status IN ('NEW', 'UNDER_REVIEW', 'IN_PROGRESS') " +
+                        "AND escalate_at <= CURRENT_TIMESTAMP AND id > 0 ORDER BY id",
+                "IDX_COMPLAINTS_ESCALATION");
+    }
+
+    @Test
+    void overdueEscalationUsesStatusDueIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM complaints WHERE due_date IS NOT NULL AND due_date <= CURRENT_TIMESTAMP " +
+                        "AND status IN ('NEW', 'UNDER_REVIEW', 'IN_PROGRESS') AND id > 0 ORDER BY id",
+                "IDX_COMPLAINTS_STATUS_DUE");
+    }
+
+    @Test
+    void officerQueueUsesOfficerIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM complaints WHERE assigned_officer_id = 2 " +
+                        "AND status IN ('NEW', 'UNDER_REVIEW', 'IN_PROGRESS')",
+                "IDX_COMPLAINTS_OFFICER_STATUS_DUE");
+    }
+
+    @Test
+    void citizenListUsesUserIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM complaints WHERE user_id = 1 ORDER BY created_at, id",
+                "IDX_COMPLAINTS_USER_CREATED", "IDX_COMPLAINTS_USER_UPDATED");
+    }
+
+    @Test
+    void statusTimelineUsesHistoryIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM complaint_status_history WHERE complaint_id = 1 ORDER BY changed_at",
+                "IDX_STATUS_HISTORY_COMPLAINT_CHANGED");
+    }
+
+    @Test
+    void officerLookupUsesRoleLevelIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM users WHERE role = 'OFFICER' AND officer_level = 'L2'",
+                "IDX_USERS_ROLE_LEVEL");
+    }
+
+    @Test
+    void outboxPollUsesDueIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM notification_outbox WHERE status = 'PENDING' " +
+                        "AND next_attempt_at <= CURRENT_TIMESTAMP ORDER BY next_attempt_at",
+                "IDX_NOTIFICATION_OUTBOX_DUE");
+    }
+
+    @Test
+    void officerTombstonesUseUserRemovedIndex() throws SQLException {
+        assertUsesIndex("SELECT complaint_id FROM complaint_tombstones WHERE user_id = 2 " +
+                        "AND removed_at >= CURRENT_TIMESTAMP",
+                "IDX_COMPLAINT_TOMBSTONES_USER_REMOVED");
+    }
+
+    private static void assertUsesIndex(String sql, String... expectedIndexes) throws SQLException {
+        String plan = explain(sql).toUpperCase();
+        assertThat(plan).as("plan for %s", sql).doesNotContain("TABLESCAN");
+        assertThat(plan).as("plan for %s", sql).containsAnyOf(expectedIndexes);
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            StringBuilder plan = new StringBuilder();
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+}
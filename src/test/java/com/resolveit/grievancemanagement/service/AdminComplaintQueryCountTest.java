@@ -0,0 +1,133 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.dto.AdminComplaintFilter;
+import com.resolveit.grievancemanagement.dto.AdminComplaintResponse;
+import com.resolveit.grievancemanagement.dto.CursorPage;
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.ComplaintStatusHistory;
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.security.CurrentUserResolver;
+import com.resolveit.grievancemanagement.security.UserPrincipalCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the statements behind admin complaint reads with the second-level cache off, i.e.
+ * always cold. A detail read is one query however long the history is; a list page is a
+ * fixed number of queries however many complaints it holds.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.locations=classpath:db/migration/{vendor}",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@Import(AdminComplaintService.class)
+class AdminComplaintQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AdminComplaintService adminComplaintService;
+
+    @MockitoBean
+    private CurrentUserResolver currentUserResolver;
+    @MockitoBean
+    private NotificationService notificationService;
+    @MockitoBean
+    private ComplaintStatsService complaintStatsService;
+    @MockitoBean
+    private ComplaintEventBroadcaster eventBroadcaster;
+    @MockitoBean
+    private ComplaintDeltaService deltaService;
+    @MockitoBean
+    private ComplaintVersions complaintVersions;
+    @MockitoBean
+    private UserPrincipalCache principalCache;
+
+    private static final int PAGE_SIZE = 60;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void detailReadIsOneQuery() {
+        User citizen = entityManager.persist(new User("citizen", "citizen@resolveit.test", "secret", User.Role.CITIZEN));
+        User officer = new User("officer_l1", "officer@resolveit.test", "secret", User.Role.OFFICER);
+        officer.setOfficerLevel(User.OfficerLevel.L1);
+        entityManager.persist(officer);
+
+        Complaint complaint = new Complaint("Street light out", "Dark since Monday",
+                Complaint.Category.SMART_CITY, Complaint.Priority.MEDIUM);
+        complaint.setUser(citizen);
+        complaint.setAssignedOfficer(officer);
+        entityManager.persist(complaint);
+        entityManager.persist(new ComplaintStatusHistory(Complaint.Status.NEW, "Complaint created", complaint, citizen));
+        entityManager.persist(new ComplaintStatusHistory(Complaint.Status.UNDER_REVIEW, "Looking into it", complaint, officer));
+        entityManager.persist(new ComplaintStatusHistory(Complaint.Status.IN_PROGRESS, "Crew booked", complaint, officer));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        AdminComplaintResponse response = adminComplaintService.getComplaint(complaint.getId());
+
+        assertThat(response.getStatusHistory()).hasSize(3);
+        assertThat(response.getStatusHistory()).allSatisfy(entry -> assertThat(entry.getChangedByUsername()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void listPageIsThreeQueriesWhateverItsSize() {
+        User citizen = entityManager.persist(new User("citizen", "citizen@resolveit.test", "secret", User.Role.CITIZEN));
+        User officer = new User("officer_l1", "officer@resolveit.test", "secret", User.Role.OFFICER);
+        officer.setOfficerLevel(User.OfficerLevel.L1);
+        entityManager.persist(officer);
+        // History authors not joined into the page, so they have to be batch-loaded
+        User[] admins = new User[5];
+        for (int i = 0; i < admins.length; i++) {
+            admins[i] = entityManager.persist(new User("admin" + i, "admin" + i + "@resolveit.test", "secret", User.Role.ADMIN));
+        }
+
+        for (int i = 0; i < PAGE_SIZE + 10; i++) {
+            Complaint complaint = new Complaint("Complaint " + i, "Details " + i,
+                    Complaint.Category.SMART_CITY, Complaint.Priority.MEDIUM);
+            complaint.setUser(citizen);
+            complaint.setAssignedOfficer(i % 2 == 0 ? officer : null);
+            entityManager.persist(complaint);
+            entityManager.persist(new ComplaintStatusHistory(Complaint.Status.NEW, "Complaint created", complaint, citizen));
+            entityManager.persist(new ComplaintStatusHistory(Complaint.Status.UNDER_REVIEW, "Triaged", complaint, admins[i % admins.length]));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        CursorPage<AdminComplaintResponse> page = adminComplaintService.listComplaints(new AdminComplaintFilter(), null, PAGE_SIZE);
+
+        assertThat(page.getItems()).hasSize(PAGE_SIZE);
+        assertThat(page.getItems()).allSatisfy(item -> {
+            assertThat(item.getCitizen().getUsername()).isEqualTo("citizen");
+            assertThat(item.getStatusHistory()).hasSize(2);
+            assertThat(item.getStatusHistory()).allSatisfy(entry -> assertThat(entry.getChangedByUsername()).isNotNull());
+        });
+        // Page with citizen and officer joined, then one batch each for history and its authors
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
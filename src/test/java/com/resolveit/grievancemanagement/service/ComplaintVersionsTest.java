@@ -0,0 +1,90 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * List ETags move only when a write commits, and only for the lists the complaint was or is in.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.locations=classpath:db/migration/{vendor}",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@Import(ComplaintVersions.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ComplaintVersionsTest {
+
+    @Autowired
+    private ComplaintVersions complaintVersions;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void bumpsEveryScopeOfTheComplaintOnCommit() {
+        String all = complaintVersions.allComplaintsETag();
+        String citizen = complaintVersions.citizenComplaintsETag(1L);
+        String officer = complaintVersions.officerComplaintsETag(2L);
+        String previousOfficer = complaintVersions.officerComplaintsETag(3L);
+        String otherCitizen = complaintVersions.citizenComplaintsETag(4L);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            complaintVersions.recordChange(complaint(1L, 2L), 3L);
+            // Not bumped until the write commits
+            assertThat(complaintVersions.allComplaintsETag()).isEqualTo(all);
+        });
+
+        assertThat(complaintVersions.allComplaintsETag()).isNotEqualTo(all);
+        assertThat(complaintVersions.citizenComplaintsETag(1L)).isNotEqualTo(citizen);
+        assertThat(complaintVersions.officerComplaintsETag(2L)).isNotEqualTo(officer);
+        assertThat(complaintVersions.officerComplaintsETag(3L)).isNotEqualTo(previousOfficer);
+        assertThat(complaintVersions.citizenComplaintsETag(4L)).isEqualTo(otherCitizen);
+    }
+
+    @Test
+    void rolledBackWriteKeepsTheVersion() {
+        String citizen = complaintVersions.citizenComplaintsETag(5L);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            complaintVersions.recordChange(complaint(5L, null), null);
+            status.setRollbackOnly();
+        });
+
+        assertThat(complaintVersions.citizenComplaintsETag(5L)).isEqualTo(citizen);
+    }
+
+    @Test
+    void writesRightAwayOutsideATransaction() {
+        String citizen = complaintVersions.citizenComplaintsETag(6L);
+
+        complaintVersions.recordChange(complaint(6L, null), null);
+
+        assertThat(complaintVersions.citizenComplaintsETag(6L)).isNotEqualTo(citizen);
+    }
+
+    private static Complaint complaint(Long userId, Long officerId) {
+        Complaint complaint = new Complaint("Pothole", "Deep one", Complaint.Category.SMART_CITY, Complaint.Priority.MEDIUM);
+        complaint.setUser(user(userId));
+        if (officerId != null) {
+            complaint.setAssignedOfficer(user(officerId));
+        }
+        return complaint;
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
@@ -0,0 +1,139 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.resolveit.grievancemanagement.entity.OutboxNotification;
+import com.resolveit.grievancemanagement.repository.OutboxNotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Sends outbox rows through an in-process SMTP server and checks which rows get recorded.
+ */
+class NotificationOutboxDispatcherTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private OutboxNotificationRepository outboxRepository;
+    private NotificationOutboxDispatcher dispatcher;
+    private final List<OutboxNotification> outbox = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(OutboxNotificationRepository.class);
+        when(outboxRepository.findDueForDispatch(any(), any())).thenReturn(outbox);
+        when(outboxRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Long> ids = new ArrayList<>();
+            invocation.<Iterable<Long>>getArgument(0).forEach(ids::add);
+            return outbox.stream().filter(notification -> ids.contains(notification.getId())).toList();
+        });
+
+        JavaMailSenderImpl mailSender = new CrashingMailSender();
+        mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        dispatcher = new NotificationOutboxDispatcher(outboxRepository, mailSender,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 2, false);
+        ReflectionTestUtils.setField(dispatcher, "fromAddress", "noreply@resolveit.test");
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 100);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 6);
+        ReflectionTestUtils.setField(dispatcher, "retryBaseSeconds", 30L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void sendsEveryRowAndMarksItSent() {
+        outbox.addAll(List.of(
+                notification(1L, "a@resolveit.test"),
+                notification(2L, "b@resolveit.test"),
+                notification(3L, "c@resolveit.test")));
+
+        dispatcher.dispatchPending();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        assertThat(outbox).allSatisfy(notification -> {
+            assertThat(notification.getStatus()).isEqualTo(OutboxNotification.Status.SENT);
+            assertThat(notification.getSentAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void recordsSlicesThatWereSentWhenAnotherWorkerDies() throws Exception {
+        // Two workers: rows 1-2 go to the first slice, rows 3-4 to the second
+        OutboxNotification crashed = notification(1L, CrashingMailSender.CRASH_RECIPIENT);
+        OutboxNotification sameSlice = notification(2L, "b@resolveit.test");
+        OutboxNotification sent = notification(3L, "c@resolveit.test");
+        OutboxNotification alsoSent = notification(4L, "d@resolveit.test");
+        outbox.addAll(List.of(crashed, sameSlice, sent, alsoSent));
+
+        dispatcher.dispatchPending();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(Arrays.stream(received).map(NotificationOutboxDispatcherTest::recipient))
+                .containsExactlyInAnyOrder("c@resolveit.test", "d@resolveit.test");
+
+        assertThat(sent.getStatus()).isEqualTo(OutboxNotification.Status.SENT);
+        assertThat(alsoSent.getStatus()).isEqualTo(OutboxNotification.Status.SENT);
+        // The dead slice keeps its lease and is retried, without counting an attempt
+        assertThat(crashed.getStatus()).isEqualTo(OutboxNotification.Status.PENDING);
+        assertThat(sameSlice.getStatus()).isEqualTo(OutboxNotification.Status.PENDING);
+        assertThat(sameSlice.getAttempts()).isZero();
+    }
+
+    private static OutboxNotification notification(Long id, String recipient) {
+        OutboxNotification notification = new OutboxNotification(100L + id, recipient, "Complaint update", "Status changed");
+        notification.setId(id);
+        return notification;
+    }
+
+    private static String recipient(MimeMessage message) {
+        try {
+            return message.getAllRecipients()[0].toString();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Fails the whole slice with an Error, which sendSlice does not catch, when it contains
+     * {@link #CRASH_RECIPIENT}; otherwise sends normally.
+     */
+    static class CrashingMailSender extends JavaMailSenderImpl {
+
+        static final String CRASH_RECIPIENT = "crash@resolveit.test";
+
+        @Override
+        public void send(SimpleMailMessage... simpleMessages) {
+            for (SimpleMailMessage message : simpleMessages) {
+                if (message.getTo() != null && Arrays.asList(message.getTo()).contains(CRASH_RECIPIENT)) {
+                    throw new LinkageError("worker died");
+                }
+            }
+            super.send(simpleMessages);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.resolveit.grievancemanagement.service;
+
+import com.resolveit.grievancemanagement.config.AssignmentProperties;
+import com.resolveit.grievancemanagement.entity.Complaint;
+import com.resolveit.grievancemanagement.entity.User;
+import com.resolveit.grievancemanagement.repository.ComplaintRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Assignments read officer loads from the database themselves, so a caller cannot
+ * choose from counts that have drifted.
+ */
+class OfficerAssignmentServiceTest {
+
+    private final List<Object[]> openCounts = new ArrayList<>();
+    private ComplaintRepository complaintRepository;
+    private AssignmentProperties properties;
+
+    private final User first = officer(1L, "officer_l2_1");
+    private final User second = officer(2L, "officer_l2_2");
+
+    @BeforeEach
+    void setUp() {
+        complaintRepository = mock(ComplaintRepository.class);
+        when(complaintRepository.countByOfficerInStatuses(anyCollection(), any())).thenAnswer(invocation -> openCounts);
+        properties = new AssignmentProperties();
+    }
+
+    @Test
+    void assignWithoutReconcileReadsTheRealLoads() {
+        openCounts.add(new Object[]{1L, 5L});
+        OfficerAssignmentService service = service("least-loaded");
+
+        assertThat(service.assign(complaint(), List.of(first, second))).isEqualTo(second);
+        verify(complaintRepository).countByOfficerInStatuses(anyCollection(), any());
+    }
+
+    @Test
+    void freshCountsAreNotReadAgain() {
+        OfficerAssignmentService service = service("least-loaded");
+
+        assertThat(service.assign(complaint(), List.of(first, second))).isEqualTo(first);
+        assertThat(service.assign(complaint(), List.of(first, second))).isEqualTo(second);
+        verify(complaintRepository, times(1)).countByOfficerInStatuses(anyCollection(), any());
+    }
+
+    @Test
+    void staleCountsAreReadAgain() {
+        properties.setLoadMaxAge(Duration.ZERO);
+        OfficerAssignmentService service = service("least-loaded");
+        service.assign(complaint(), List.of(first, second));
+
+        // Resolved elsewhere: the first officer's queue is back to zero, the second has work
+        openCounts.add(new Object[]{2L, 3L});
+        sleepPastNow();
+
+        assertThat(service.assign(complaint(), List.of(first, second))).isEqualTo(first);
+    }
+
+    @Test
+    void weightedRoundRobinForgetsOfficersLeavingThePool() {
+        properties.getWeights().put("officer_l2_2", 3);
+        OfficerAssignmentService service = service("weighted-round-robin");
+        service.assign(complaint(), List.of(first, second));
+
+        // Only the second officer is left; when the first returns it starts from zero instead of
+        // keeping the credit it built up while the second was being chosen
+        service.assign(complaint(), List.of(second));
+        List<User> chosen = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            chosen.add(service.assign(complaint(), List.of(first, second)));
+        }
+
+        assertThat(chosen).containsExactly(second, first, second, second);
+    }
+
+    private OfficerAssignmentService service(String strategy) {
+        properties.setStrategy(strategy);
+        OfficerLoadTracker loadTracker = new OfficerLoadTracker(complaintRepository, properties);
+        return new OfficerAssignmentService(
+                List.of(new LeastLoadedAssignmentStrategy(loadTracker),
+                        new WeightedRoundRobinAssignmentStrategy(properties)),
+                properties, loadTracker);
+    }
+
+    private static void sleepPastNow() {
+        try {
+            Thread.sleep(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Complaint complaint() {
+        return new Complaint("Pothole", "Deep one", Complaint.Category.SMART_CITY, Complaint.Priority.MEDIUM);
+    }
+
+    private static User officer(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+}